@@ -23,8 +23,8 @@ import tutman.tuiniverse.model.ReadOnlyUserPrefs;
 import tutman.tuiniverse.model.UserPrefs;
 import tutman.tuiniverse.model.util.SampleDataUtil;
 import tutman.tuiniverse.model.util.StartupRolloverHandler;
+import tutman.tuiniverse.storage.AddressBookSaver;
 import tutman.tuiniverse.storage.AddressBookStorage;
-import tutman.tuiniverse.storage.JsonAddressBookStorage;
 import tutman.tuiniverse.storage.JsonUserPrefsStorage;
 import tutman.tuiniverse.storage.Storage;
 import tutman.tuiniverse.storage.StorageManager;
@@ -58,7 +58,8 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage =
+                StorageManager.createAddressBookStorage(userPrefs.getAddressBookFilePath(), config);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
@@ -66,7 +67,7 @@ public class MainApp extends Application {
         // === Monthly payment rollover on app statup ===
         new StartupRolloverHandler(model, storage).perform(userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, new AddressBookSaver());
 
         ui = new UiManager(logic);
     }
@@ -181,6 +182,7 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Tuiniverse ] =============================");
+        logic.close();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
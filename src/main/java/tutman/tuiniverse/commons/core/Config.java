@@ -17,6 +17,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean addressBookJournaled = true;
+    private boolean addressBookBinary = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +36,28 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if changes to the address book are appended to a journal, rather than rewriting the whole file.
+     */
+    public boolean isAddressBookJournaled() {
+        return addressBookJournaled;
+    }
+
+    public void setAddressBookJournaled(boolean addressBookJournaled) {
+        this.addressBookJournaled = addressBookJournaled;
+    }
+
+    /**
+     * Returns true if the address book is stored in the binary snapshot format, whatever the extension of its file.
+     */
+    public boolean isAddressBookBinary() {
+        return addressBookBinary;
+    }
+
+    public void setAddressBookBinary(boolean addressBookBinary) {
+        this.addressBookBinary = addressBookBinary;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +71,14 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && addressBookJournaled == otherConfig.addressBookJournaled
+                && addressBookBinary == otherConfig.addressBookBinary;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, addressBookJournaled, addressBookBinary);
     }
 
     @Override
@@ -60,6 +86,8 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("addressBookJournaled", addressBookJournaled)
+                .add("addressBookBinary", addressBookBinary)
                 .toString();
     }
 
@@ -1,10 +1,13 @@
 package tutman.tuiniverse.commons.util;
 
 import java.io.IOException;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
 
 /**
  * Writes and reads files
@@ -80,4 +83,44 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Assumes file exists
+     */
+    public static byte[] readBytesFromFile(Path file) throws IOException {
+        return Files.readAllBytes(file);
+    }
+
+    /**
+     * Writes given bytes to a file.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeToFile(Path file, byte[] content) throws IOException {
+        Files.write(file, content);
+    }
+
+    /**
+     * Appends given string to the end of a file.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        Files.write(file, content.getBytes(CHARSET), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Returns the lines of a file, or no lines if the file does not exist.
+     */
+    public static List<String> readLinesFromFile(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+        return Files.readAllLines(file, Charset.forName(CHARSET));
+    }
+
+    /**
+     * Deletes a file, if it exists.
+     */
+    public static void deleteIfExists(Path file) throws IOException {
+        Files.deleteIfExists(file);
+    }
+
 }
@@ -1,8 +1,9 @@
 package tutman.tuiniverse.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
-import javafx.beans.value.ObservableFloatValue;
+import javafx.beans.value.ObservableLongValue;
 import javafx.collections.ObservableList;
 import tutman.tuiniverse.commons.core.GuiSettings;
 import tutman.tuiniverse.logic.commands.CommandResult;
@@ -36,23 +37,23 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Student> getFilteredPersonList();
 
-    /** Returns an unmodifiable view of the filtered list of lessons */
-    ObservableList<Lesson> getFilteredLessonList();
+    /** Returns an unmodifiable view of the lessons of the student last viewed */
+    ObservableList<Lesson> getViewedLessonList();
 
-    /** Returns an unmodifiable view of the filtered list of today's lessons */
+    /** Returns an unmodifiable view of today's lessons, sorted by start time */
     ObservableList<Lesson> getTodayLessonList();
 
     /**
-     * Returns a float value of the total earned from all students for the month.
+     * Returns the total earned in cents from all students for the month.
      * This should be the total of totalAmounts in all student's payment lists.
      */
-    ObservableFloatValue totalEarningsProperty();
+    ObservableLongValue totalEarningsProperty();
 
     /**
-     * Returns a float value of the total unpaid from all students.
+     * Returns the total unpaid in cents from all students.
      * This should be the total of unpaidAmounts in all student's payment lists.
      */
-    ObservableFloatValue totalUnpaidProperty();
+    ObservableLongValue totalUnpaidProperty();
 
     /**
      * Returns the user prefs' address book file path.
@@ -68,4 +69,15 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler told of the error message when saving data in the background fails.
+     * It may be called on any thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Writes any data still waiting to be saved in the background, then stops saving in the background.
+     */
+    void close();
 }
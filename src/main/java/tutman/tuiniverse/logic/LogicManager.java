@@ -1,15 +1,19 @@
 package tutman.tuiniverse.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
-import javafx.beans.value.ObservableFloatValue;
+import javafx.beans.value.ObservableLongValue;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.SortedList;
 import tutman.tuiniverse.commons.core.GuiSettings;
 import tutman.tuiniverse.commons.core.LogsCenter;
+import tutman.tuiniverse.commons.util.StringUtil;
 import tutman.tuiniverse.logic.commands.Command;
 import tutman.tuiniverse.logic.commands.CommandResult;
 import tutman.tuiniverse.logic.commands.exceptions.CommandException;
@@ -18,9 +22,9 @@ import tutman.tuiniverse.logic.parser.exceptions.ParseException;
 import tutman.tuiniverse.model.Model;
 import tutman.tuiniverse.model.ReadOnlyAddressBook;
 import tutman.tuiniverse.model.lesson.Lesson;
-import tutman.tuiniverse.model.lesson.TodaysLessonPredicate;
 import tutman.tuiniverse.model.student.Student;
 import tutman.tuiniverse.model.util.DateTimeUtil;
+import tutman.tuiniverse.storage.AddressBookSaver;
 import tutman.tuiniverse.storage.Storage;
 
 /**
@@ -37,15 +41,34 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final AddressBookSaver saver;
+    private final AtomicBoolean hasFailedSave = new AtomicBoolean();
+    private volatile Consumer<String> saveFailureHandler = message -> { };
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model}, {@code Storage} and
-     * {@code Clock}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, that saves data before
+     * each command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, that hands data to
+     * {@code saver} to be saved in the background, or saves it before each command returns if {@code saver} is null.
+     */
+    public LogicManager(Model model, Storage storage, AddressBookSaver saver) {
         this.model = model;
         this.storage = storage;
+        this.saver = saver;
         addressBookParser = new AddressBookParser();
+        if (saver != null) {
+            saver.setFailureHandler(e -> {
+                // the model is only changed by the thread executing commands, which picks this up on the next one
+                hasFailedSave.set(true);
+                saveFailureHandler.accept(toSaveErrorMessage(e));
+            });
+        }
     }
 
     @Override
@@ -54,20 +77,46 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+        } catch (CommandException | RuntimeException e) {
+            // so that every version, and every save, holds the changes of whole commands only
+            model.rollbackAddressBook();
+            throw e;
+        }
+        model.commitAddressBook();
 
+        if (hasFailedSave.getAndSet(false)) {
+            // the changes of the failed save were already taken, so only saving all of it again brings the file up
+            model.markAddressBookUnsaved();
+        }
+        if (!model.hasUnsavedAddressBookChanges()) {
+            return commandResult;
+        }
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        if (saver != null) {
+            // the changes are captured now, so the model can keep changing while they are written
+            saver.submit(storage.prepareSave(model.getAddressBook(), model.takeAddressBookChanges()));
+        } else {
+            try {
+                storage.saveAddressBookChanges(model.getAddressBook(), model.takeAddressBookChanges());
+            } catch (IOException ioe) {
+                model.markAddressBookUnsaved();
+                throw new CommandException(toSaveErrorMessage(ioe), ioe);
+            }
         }
+        model.markAddressBookSaved();
 
         return commandResult;
     }
 
+    private static String toSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -79,23 +128,21 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public ObservableList<Lesson> getFilteredLessonList() {
-        return model.getFilteredLessonList();
+    public ObservableList<Lesson> getViewedLessonList() {
+        return model.getViewedLessonList();
     }
     @Override
-    public SortedList<Lesson> getTodayLessonList() {
-        //by default, we show the lesson for today only
-        model.updateFilteredLessonList(new TodaysLessonPredicate(DateTimeUtil.currentDay()));
-        return model.getSortedFilteredLessons();
+    public ObservableList<Lesson> getTodayLessonList() {
+        return model.getLessonsOn(DateTimeUtil.currentDay());
     }
 
     @Override
-    public ObservableFloatValue totalEarningsProperty() {
+    public ObservableLongValue totalEarningsProperty() {
         return model.totalEarningsProperty();
     }
 
     @Override
-    public ObservableFloatValue totalUnpaidProperty() {
+    public ObservableLongValue totalUnpaidProperty() {
         return model.totalUnpaidProperty();
     }
 
@@ -113,4 +160,27 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        this.saveFailureHandler = requireNonNull(saveFailureHandler);
+    }
+
+    @Override
+    public void close() {
+        if (saver == null) {
+            return;
+        }
+
+        try {
+            saver.close();
+        } catch (IOException e) {
+            logger.warning("Saving in the background failed, saving the whole address book instead: " + e);
+            try {
+                storage.saveAddressBook(model.getAddressBook());
+            } catch (IOException ioe) {
+                logger.severe("Failed to save address book " + StringUtil.getDetails(ioe));
+            }
+        }
+    }
 }
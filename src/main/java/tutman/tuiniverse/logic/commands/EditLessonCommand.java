@@ -179,10 +179,10 @@ public class EditLessonCommand extends Command {
         /** Creates a descriptor from String inputs. */
         public EditLessonDescriptor(String day, String startTime, String endTime, String level,
                                     String rate, String subject) {
-            this.day = new Day(Integer.valueOf(day));
+            this.day = Day.of(Integer.parseInt(day));
             this.lessonTime = LessonTime.ofLessonTime(startTime, endTime);
             this.level = Level.fromString(level);
-            this.rate = new Rate(rate);
+            this.rate = Rate.of(rate);
             this.subject = Subject.fromString(subject);
         }
 
@@ -248,7 +248,7 @@ public class EditLessonCommand extends Command {
             return this.day.equals(otherEditLessonDescriptor.day)
                     && this.lessonTime.equals(otherEditLessonDescriptor.lessonTime)
                     && (this.level.getLevel() == otherEditLessonDescriptor.level.getLevel())
-                    && (this.rate.getRate() == otherEditLessonDescriptor.rate.getRate())
+                    && this.rate.equals(otherEditLessonDescriptor.rate)
                     && this.subject.getSubject().equals(otherEditLessonDescriptor.subject.getSubject());
         }
 
@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 
 import tutman.tuiniverse.model.Model;
 import tutman.tuiniverse.model.student.PaymentStatus;
-import tutman.tuiniverse.model.student.StudentMatchesPaymentStatusPredicate;
 
 /**
  * Lists all students in the address book to the user.
@@ -15,16 +14,10 @@ public class ListOverdueCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Listed all overdue students";
 
-    private StudentMatchesPaymentStatusPredicate predicate;
-
-    public ListOverdueCommand() {
-        this.predicate = new StudentMatchesPaymentStatusPredicate(PaymentStatus.OVERDUE);
-    }
-
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonListByPaymentStatus(predicate);
+        model.updateFilteredPersonListByPaymentStatus(PaymentStatus.OVERDUE);
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 
 import tutman.tuiniverse.model.Model;
 import tutman.tuiniverse.model.student.PaymentStatus;
-import tutman.tuiniverse.model.student.StudentMatchesPaymentStatusPredicate;
 
 
 
@@ -17,16 +16,10 @@ public class ListPaidCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Listed all paid students";
 
-    private StudentMatchesPaymentStatusPredicate predicate;
-
-    public ListPaidCommand() {
-        this.predicate = new StudentMatchesPaymentStatusPredicate(PaymentStatus.PAID);
-    }
-
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonListByPaymentStatus(predicate);
+        model.updateFilteredPersonListByPaymentStatus(PaymentStatus.PAID);
         return new CommandResult(MESSAGE_SUCCESS);
     }
 }
@@ -58,10 +58,23 @@ public class PayCommand extends Command {
         }
     }
 
+    /**
+     * Returns a copy of {@code studentToPay} with all its payments marked as paid.
+     * {@code studentToPay} itself is left unchanged, so that paying can be undone.
+     */
     private static Student makePayment(Student studentToPay) throws PaymentException {
         assert studentToPay != null;
-        studentToPay.pay();
-        return studentToPay;
+        Student paidStudent = new Student(
+                studentToPay.getName(),
+                studentToPay.getPhone(),
+                studentToPay.getEmail(),
+                studentToPay.getAddress(),
+                studentToPay.getTags(),
+                studentToPay.getLessonList(),
+                studentToPay.getPayments().copy()
+        );
+        paidStudent.pay();
+        return paidStudent;
     }
 
     @Override
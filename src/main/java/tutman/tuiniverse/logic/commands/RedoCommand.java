@@ -0,0 +1,29 @@
+package tutman.tuiniverse.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import tutman.tuiniverse.logic.commands.exceptions.CommandException;
+import tutman.tuiniverse.model.Model;
+
+/**
+ * Reapplies the changes of the last command that was undone.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_SUCCESS = "Redo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to redo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canRedoAddressBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.redoAddressBook();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -0,0 +1,29 @@
+package tutman.tuiniverse.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import tutman.tuiniverse.logic.commands.exceptions.CommandException;
+import tutman.tuiniverse.model.Model;
+
+/**
+ * Reverts the address book to the state before the last command that changed it.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_SUCCESS = "Undo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to undo!";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canUndoAddressBook()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.undoAddressBook();
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
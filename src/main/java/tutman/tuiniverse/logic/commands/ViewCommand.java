@@ -3,14 +3,12 @@ package tutman.tuiniverse.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
-import java.util.function.Predicate;
 
 import tutman.tuiniverse.commons.core.index.Index;
 import tutman.tuiniverse.commons.util.ToStringBuilder;
 import tutman.tuiniverse.logic.Messages;
 import tutman.tuiniverse.logic.commands.exceptions.CommandException;
 import tutman.tuiniverse.model.Model;
-import tutman.tuiniverse.model.lesson.Lesson;
 import tutman.tuiniverse.model.student.Student;
 
 /**
@@ -45,8 +43,7 @@ public class ViewCommand extends Command {
 
         Student studentToViewLessons = lastShownList.get(targetIndex.getZeroBased());
 
-        Predicate<Lesson> belongsToStudent = studentToViewLessons::hasLesson;
-        model.updateFilteredLessonList(belongsToStudent);
+        model.setViewedStudent(studentToViewLessons);
 
         return new CommandResult(String.format(MESSAGE_VIEW_SUCCESS, Messages.format(studentToViewLessons)),
                 true, studentToViewLessons.getName().toString());
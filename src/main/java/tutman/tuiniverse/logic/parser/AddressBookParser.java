@@ -24,6 +24,8 @@ import tutman.tuiniverse.logic.commands.ListOverdueCommand;
 import tutman.tuiniverse.logic.commands.ListPaidCommand;
 import tutman.tuiniverse.logic.commands.ListUnpaidCommand;
 import tutman.tuiniverse.logic.commands.PayCommand;
+import tutman.tuiniverse.logic.commands.RedoCommand;
+import tutman.tuiniverse.logic.commands.UndoCommand;
 import tutman.tuiniverse.logic.commands.ViewCommand;
 import tutman.tuiniverse.logic.parser.exceptions.ParseException;
 
@@ -110,6 +112,12 @@ public class AddressBookParser {
         case EditLessonCommand.COMMAND_WORD:
             return new EditLessonCommandParser().parse(arguments);
 
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
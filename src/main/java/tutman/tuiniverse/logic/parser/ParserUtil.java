@@ -86,7 +86,7 @@ public class ParserUtil {
         if (!Address.isValidAddress(trimmedAddress)) {
             throw new ParseException(Address.MESSAGE_CONSTRAINTS);
         }
-        return new Address(trimmedAddress);
+        return Address.of(trimmedAddress);
     }
 
     /**
@@ -116,7 +116,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -175,7 +175,7 @@ public class ParserUtil {
         if (!Day.isValidDay(trimmedDay)) {
             throw new ParseException(Day.MESSAGE_CONSTRAINTS);
         }
-        return new Day(trimmedDay);
+        return Day.of(trimmedDay);
     }
 
     /**
@@ -190,7 +190,7 @@ public class ParserUtil {
         if (!Rate.isValidRate(trimmedRate)) {
             throw new ParseException(Rate.MESSAGE_CONSTRAINTS);
         }
-        return new Rate(trimmedRate);
+        return Rate.of(trimmedRate);
     }
 
     /**
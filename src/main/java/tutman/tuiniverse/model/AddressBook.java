@@ -3,12 +3,16 @@ package tutman.tuiniverse.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import tutman.tuiniverse.commons.util.ToStringBuilder;
+import tutman.tuiniverse.model.lesson.Day;
 import tutman.tuiniverse.model.lesson.Lesson;
 import tutman.tuiniverse.model.lesson.UniqueLessonList;
 import tutman.tuiniverse.model.student.Student;
+import tutman.tuiniverse.model.student.StudentSearchIndex;
 import tutman.tuiniverse.model.student.UniquePersonList;
 
 
@@ -20,6 +24,8 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueLessonList lessons;
+    private final LessonOwnership ownership = new LessonOwnership();
+    private final StudentSearchIndex searchIndex = new StudentSearchIndex();
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -53,6 +59,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Student> persons) {
         this.persons.setPersons(persons);
+        searchIndex.setAll(persons);
+        ownership.clear();
+        for (Student person : persons) {
+            ownership.addOwner(person);
+        }
     }
 
     /**
@@ -89,6 +100,18 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Student p) {
         persons.add(p);
+        ownership.addOwner(p);
+        searchIndex.add(p);
+    }
+
+    /**
+     * Inserts a person into the address book at {@code index} of the person list.
+     * The person must not already exist in the address book.
+     */
+    void addPerson(int index, Student p) {
+        persons.add(index, p);
+        ownership.addOwner(p);
+        searchIndex.add(p);
     }
 
     /**
@@ -100,6 +123,10 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        ownership.removeOwner(target);
+        ownership.addOwner(editedPerson);
+        searchIndex.remove(target);
+        searchIndex.add(editedPerson);
     }
 
     /**
@@ -108,6 +135,36 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Student key) {
         persons.remove(key);
+        ownership.removeOwner(key);
+        searchIndex.remove(key);
+    }
+
+    /**
+     * Returns true if {@code person} itself, rather than only an equal person, is in the address book.
+     */
+    boolean containsExactly(Student person) {
+        requireNonNull(person);
+        return ownership.hasOwner(person);
+    }
+
+    /**
+     * Re-indexes the lessons of {@code person} after its lesson list was changed in place.
+     * Does nothing if {@code person} itself is not in the address book.
+     */
+    void refreshOwnership(Student person) {
+        if (!containsExactly(person)) {
+            return;
+        }
+        ownership.removeOwner(person);
+        ownership.addOwner(person);
+    }
+
+    /**
+     * Returns the persons whose name, email, phone or address has a word containing any of {@code keywords},
+     * ignoring case. The returned set compares persons by identity.
+     */
+    public Set<Student> findPersons(List<String> keywords) {
+        return searchIndex.search(keywords);
     }
 
 
@@ -138,6 +195,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedLesson);
 
         lessons.setLesson(target, editedLesson);
+        ownership.replaceLesson(target, editedLesson);
     }
 
     /**
@@ -146,6 +204,22 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeLesson(Lesson key) {
         lessons.remove(key);
+        ownership.removeLesson(key);
+    }
+
+    /**
+     * Returns the lessons owned by {@code student}, in the order they were added to it.
+     * The returned list is unmodifiable and is empty if {@code student} is not in the address book.
+     */
+    public List<Lesson> getLessonsOf(Student student) {
+        return ownership.getLessonsOf(student);
+    }
+
+    /**
+     * Returns the student in the address book owning {@code lesson}, if any.
+     */
+    public Optional<Student> getOwnerOf(Lesson lesson) {
+        return ownership.getOwnerOf(lesson);
     }
 
     //// util methods
@@ -169,6 +243,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         return lessons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns an unmodifiable view of the lessons on {@code day}, sorted by start time.
+     */
+    public ObservableList<Lesson> getLessonsOn(Day day) {
+        requireNonNull(day);
+        return lessons.asUnmodifiableObservableList(day.getDayOfWeek());
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
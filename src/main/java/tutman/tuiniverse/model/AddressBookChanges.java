@@ -0,0 +1,64 @@
+package tutman.tuiniverse.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import tutman.tuiniverse.model.student.Student;
+
+/**
+ * The students added, changed in place, replaced or removed in an address book over some span of changes.
+ * Guarantees: immutable.
+ * <p>
+ * A student that is no longer in the address book was removed or replaced; any other student was added or changed.
+ * If the whole address book was replaced, {@link #isReset()} is true and the students are not listed.
+ */
+public final class AddressBookChanges {
+
+    /** No changes. */
+    public static final AddressBookChanges NONE = new AddressBookChanges(false, Set.of());
+
+    /** The whole address book was replaced. */
+    public static final AddressBookChanges RESET = new AddressBookChanges(true, Set.of());
+
+    private final boolean isReset;
+    private final Set<Student> changedPersons;
+
+    private AddressBookChanges(boolean isReset, Set<Student> changedPersons) {
+        this.isReset = isReset;
+        this.changedPersons = changedPersons;
+    }
+
+    /**
+     * Returns the changes to the students in {@code changedPersons}, compared by identity.
+     */
+    public static AddressBookChanges of(Set<Student> changedPersons) {
+        requireNonNull(changedPersons);
+        if (changedPersons.isEmpty()) {
+            return NONE;
+        }
+        Set<Student> copy = Collections.newSetFromMap(new IdentityHashMap<>());
+        copy.addAll(changedPersons);
+        return new AddressBookChanges(false, Collections.unmodifiableSet(copy));
+    }
+
+    public boolean isReset() {
+        return isReset;
+    }
+
+    /**
+     * Returns true if nothing changed.
+     */
+    public boolean isEmpty() {
+        return !isReset && changedPersons.isEmpty();
+    }
+
+    /**
+     * Returns the students that were added, changed, replaced or removed, compared by identity.
+     */
+    public Set<Student> getChangedPersons() {
+        return changedPersons;
+    }
+}
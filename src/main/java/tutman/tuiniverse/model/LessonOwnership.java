@@ -0,0 +1,128 @@
+package tutman.tuiniverse.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import tutman.tuiniverse.model.lesson.Lesson;
+import tutman.tuiniverse.model.student.Student;
+
+/**
+ * Indexes which student in the address book owns which lessons, in both directions.
+ * <p>
+ * Students and lessons are indexed by identity rather than by {@code equals}, because a {@code Student} is replaced
+ * by a new instance whenever it is edited, and the owner of a lesson is tied to that very instance.
+ */
+class LessonOwnership {
+
+    private final Map<Student, List<Lesson>> lessonsByOwner = new IdentityHashMap<>();
+    private final Map<Lesson, Student> ownerByLesson = new IdentityHashMap<>();
+
+    /**
+     * Records {@code owner} as the owner of every lesson in its own lesson list.
+     */
+    void addOwner(Student owner) {
+        requireNonNull(owner);
+        List<Lesson> owned = lessonsByOwner.computeIfAbsent(owner, unused -> new ArrayList<>());
+        for (Lesson lesson : owner.getLessonList().getLessons()) {
+            owned.add(lesson);
+            ownerByLesson.put(lesson, owner);
+        }
+    }
+
+    /**
+     * Forgets {@code owner} and the ownership of all its lessons.
+     */
+    void removeOwner(Student owner) {
+        requireNonNull(owner);
+        List<Lesson> owned = lessonsByOwner.remove(owner);
+        if (owned == null) {
+            return;
+        }
+        for (Lesson lesson : owned) {
+            ownerByLesson.remove(lesson, owner);
+        }
+    }
+
+    /**
+     * Forgets the ownership of {@code lesson}.
+     */
+    void removeLesson(Lesson lesson) {
+        requireNonNull(lesson);
+        Student owner = ownerByLesson.remove(lesson);
+        if (owner == null) {
+            return;
+        }
+        List<Lesson> owned = lessonsByOwner.get(owner);
+        int index = indexOf(owned, lesson);
+        if (index != -1) {
+            owned.remove(index);
+        }
+    }
+
+    /**
+     * Transfers the ownership of {@code target} to {@code editedLesson},
+     * keeping its position among its owner's lessons.
+     */
+    void replaceLesson(Lesson target, Lesson editedLesson) {
+        requireNonNull(target);
+        requireNonNull(editedLesson);
+        Student owner = ownerByLesson.remove(target);
+        if (owner == null) {
+            return;
+        }
+        List<Lesson> owned = lessonsByOwner.get(owner);
+        int index = indexOf(owned, target);
+        if (index != -1) {
+            owned.set(index, editedLesson);
+        }
+        ownerByLesson.put(editedLesson, owner);
+    }
+
+    /**
+     * Forgets all owners and lessons.
+     */
+    void clear() {
+        lessonsByOwner.clear();
+        ownerByLesson.clear();
+    }
+
+    /**
+     * Returns true if {@code owner} itself has been recorded as an owner, even of no lessons.
+     */
+    boolean hasOwner(Student owner) {
+        requireNonNull(owner);
+        return lessonsByOwner.containsKey(owner);
+    }
+
+    /**
+     * Returns an unmodifiable view of the lessons owned by {@code owner}, which is empty if it owns none.
+     */
+    List<Lesson> getLessonsOf(Student owner) {
+        requireNonNull(owner);
+        List<Lesson> owned = lessonsByOwner.get(owner);
+        return owned == null ? Collections.emptyList() : Collections.unmodifiableList(owned);
+    }
+
+    /**
+     * Returns the student owning {@code lesson}, if any.
+     */
+    Optional<Student> getOwnerOf(Lesson lesson) {
+        requireNonNull(lesson);
+        return Optional.ofNullable(ownerByLesson.get(lesson));
+    }
+
+    private static int indexOf(List<Lesson> lessons, Lesson lesson) {
+        for (int i = 0; i < lessons.size(); i++) {
+            if (lessons.get(i) == lesson) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -3,11 +3,13 @@ package tutman.tuiniverse.model;
 import java.nio.file.Path;
 import java.util.function.Predicate;
 
-import javafx.beans.value.ObservableFloatValue;
+import javafx.beans.value.ObservableLongValue;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.SortedList;
 import tutman.tuiniverse.commons.core.GuiSettings;
+import tutman.tuiniverse.model.lesson.Day;
 import tutman.tuiniverse.model.lesson.Lesson;
+import tutman.tuiniverse.model.student.NameContainsKeywordsPredicate;
+import tutman.tuiniverse.model.student.PaymentStatus;
 import tutman.tuiniverse.model.student.Student;
 
 /**
@@ -79,14 +81,94 @@ public interface Model {
      */
     void setPerson(Student target, Student editedPerson);
 
+    /**
+     * Starts a batch of changes. Until the matching {@link #commitBatch()}, the totals and the filtered person list
+     * are not refreshed after every change, but once when the batch is committed.
+     * Batches may be nested, in which case only the outermost commit refreshes.
+     */
+    void beginBatch();
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}.
+     *
+     * @throws IllegalStateException if no batch is in progress.
+     */
+    void commitBatch();
+
+    /**
+     * Saves the changes to the address book since the last commit as a version that can be undone.
+     * Does nothing if the address book has not changed.
+     */
+    void commitAddressBook();
+
+    /**
+     * Discards the changes to the address book since the last commit, such as those of a command that failed
+     * part way, restoring it to the latest version.
+     */
+    void rollbackAddressBook();
+
+    /**
+     * Returns true if there is a version of the address book to undo.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone version of the address book to redo.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the address book to its version before the latest commit.
+     *
+     * @throws IllegalStateException if there is no version to undo.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the address book to the version undone most recently.
+     *
+     * @throws IllegalStateException if there is no version to redo.
+     */
+    void redoAddressBook();
+
+    /**
+     * Forgets all versions of the address book, so that its current data cannot be undone.
+     */
+    void clearAddressBookHistory();
+
+    /**
+     * Returns the changes to the address book since the last call, so that only those need to be saved,
+     * and starts collecting changes afresh.
+     */
+    AddressBookChanges takeAddressBookChanges();
+
+    /**
+     * Returns true if the address book has changed since it was last marked as saved, or since this model was
+     * created if it never was.
+     */
+    boolean hasUnsavedAddressBookChanges();
+
+    /**
+     * Marks the current address book as saved.
+     */
+    void markAddressBookSaved();
+
+    /**
+     * Marks the whole address book as unsaved, such as after a save failed, so that all of it is saved next.
+     */
+    void markAddressBookUnsaved();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Student> getFilteredPersonList();
 
     /** Returns an unmodifiable view of the filtered lesson list */
     ObservableList<Lesson> getFilteredLessonList();
 
-    /** Returns the sorted lesson list */
-    SortedList<Lesson> getSortedFilteredLessons();
+    /** Returns an unmodifiable view of the lessons on {@code day}, sorted by start time */
+    ObservableList<Lesson> getLessonsOn(Day day);
+
+    /** Returns an unmodifiable view of the lessons of the viewed student, or an empty list if there is none */
+    ObservableList<Lesson> getViewedLessonList();
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
@@ -101,10 +183,28 @@ public interface Model {
     void updateFilteredLessonList(Predicate<Lesson> predicate);
 
     /**
-     * Updates the filter of the filtered student list to filter by the given {@code predicate}.
+     * Sets {@code student} as the student whose lessons are viewed.
+     * @throws NullPointerException if {@code student} is null.
+     */
+    void setViewedStudent(Student student);
+
+    /**
+     * Updates the filter of the filtered student list to show only the students with {@code paymentStatus}.
+     * @throws NullPointerException if {@code paymentStatus} is null.
+     */
+    void updateFilteredPersonListByPaymentStatus(PaymentStatus paymentStatus);
+
+    /**
+     * Returns the number of students in the address book with {@code paymentStatus}.
+     */
+    int countPersonsWithPaymentStatus(PaymentStatus paymentStatus);
+
+    /**
+     * Updates the filter of the filtered student list to show the students matched by {@code predicate},
+     * looking them up in the address book's search index instead of testing every student.
      * @throws NullPointerException if {@code predicate} is null.
      */
-    void updateFilteredPersonListByPaymentStatus(Predicate<Student> predicate);
+    void updateFilteredPersonListByKeywords(NameContainsKeywordsPredicate predicate);
 
     /**
      * Returns true if a lesson with the same timeslot as {@code lesson} exists in the address book.
@@ -131,14 +231,14 @@ public interface Model {
     void setLesson(Student student, Lesson lesson, Lesson editedLesson);
 
     /**
-     * Returns a float value of the total earned from all students for the month.
+     * Returns the total earned in cents from all students for the month.
      * This should be the total of totalAmounts in all student's payment lists.
      */
-    ObservableFloatValue totalEarningsProperty();
+    ObservableLongValue totalEarningsProperty();
 
     /**
-     * Returns a float value of the total yet to be paid from all students.
+     * Returns the total in cents yet to be paid from all students.
      * This should be the total of unpaidAmounts in all student's payment lists.
      */
-    ObservableFloatValue totalUnpaidProperty();
+    ObservableLongValue totalUnpaidProperty();
 }
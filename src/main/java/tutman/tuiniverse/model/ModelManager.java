@@ -4,19 +4,23 @@ import static java.util.Objects.requireNonNull;
 import static tutman.tuiniverse.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
-import javafx.beans.property.ReadOnlyFloatWrapper;
-import javafx.beans.value.ObservableFloatValue;
+import javafx.beans.property.ReadOnlyLongWrapper;
+import javafx.beans.value.ObservableLongValue;
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import tutman.tuiniverse.commons.core.GuiSettings;
 import tutman.tuiniverse.commons.core.LogsCenter;
+import tutman.tuiniverse.model.lesson.Day;
 import tutman.tuiniverse.model.lesson.Lesson;
 import tutman.tuiniverse.model.lesson.LessonList;
-import tutman.tuiniverse.model.lesson.LessonTimeComparator;
+import tutman.tuiniverse.model.student.NameContainsKeywordsPredicate;
+import tutman.tuiniverse.model.student.PaymentStatus;
 import tutman.tuiniverse.model.student.Student;
 
 /**
@@ -25,13 +29,19 @@ import tutman.tuiniverse.model.student.Student;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final AddressBook addressBook;
+    private final VersionedAddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Student> filteredPersons;
     private final FilteredList<Lesson> filteredLessons;
-    private final SortedList<Lesson> sortedFilteredLessons;
-    private final ReadOnlyFloatWrapper totalEarnings = new ReadOnlyFloatWrapper(0.0f);
-    private final ReadOnlyFloatWrapper totalUnpaid = new ReadOnlyFloatWrapper(0.0f);
+    private final ReadOnlyLongWrapper totalEarnings = new ReadOnlyLongWrapper(0);
+    private final ReadOnlyLongWrapper totalUnpaid = new ReadOnlyLongWrapper(0);
+    private final PaymentTotals paymentTotals = new PaymentTotals();
+    private final PaymentStatusIndex paymentStatuses = new PaymentStatusIndex();
+    private int batchDepth = 0;
+    private boolean hasPendingTotals = false;
+    private Predicate<Student> pendingPersonPredicate;
+    private long savedChangeCount;
+    private Student viewedStudent;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -41,14 +51,13 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        this.addressBook = new VersionedAddressBook(addressBook, userPrefs.getUndoHistoryDepth());
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         filteredLessons = new FilteredList<>(this.addressBook.getLessonList());
-        sortedFilteredLessons = new SortedList<>(filteredLessons, new LessonTimeComparator());
-        recomputeTotalEarnings();
-        recomputeTotalUnpaid();
-
+        paymentStatuses.reset(this.addressBook.getPersonList());
+        recomputeTotals();
+        savedChangeCount = this.addressBook.getChangeCount();
     }
 
     public ModelManager() {
@@ -61,6 +70,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        addressBook.setMaxDepth(userPrefs.getUndoHistoryDepth());
     }
 
     @Override
@@ -95,8 +105,8 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
-        recomputeTotalEarnings();
-        recomputeTotalUnpaid();
+        paymentStatuses.reset(this.addressBook.getPersonList());
+        recomputeTotals();
     }
 
     @Override
@@ -112,29 +122,158 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Student target) {
-        for (Lesson lesson : target.getLessonList().getLessons()) {
-            deleteLesson(target, lesson);
+        beginBatch();
+        try {
+            // copied, as deleting a lesson removes it from the list being iterated over
+            for (Lesson lesson : new ArrayList<>(target.getLessonList().getLessons())) {
+                deleteLesson(target, lesson);
+            }
+            addressBook.removePerson(target);
+            if (viewedStudent == target) {
+                viewedStudent = null;
+            }
+            paymentStatuses.update(target, null);
+            updateTotals(target, null);
+        } finally {
+            commitBatch();
         }
-        addressBook.removePerson(target);
-        recomputeTotalEarnings();
-        recomputeTotalUnpaid();
     }
 
     @Override
     public void addPerson(Student person) {
         addressBook.addPerson(person);
+        paymentStatuses.update(null, person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        recomputeTotalEarnings();
-        recomputeTotalUnpaid();
+        updateTotals(null, person);
     }
 
     @Override
     public void setPerson(Student target, Student editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        addressBook.setPerson(target, editedPerson);
-        recomputeTotalEarnings();
-        recomputeTotalUnpaid();
+        // regrouped before the list changes, so that a payment status filter sees the new status
+        paymentStatuses.update(target, editedPerson);
+        try {
+            addressBook.setPerson(target, editedPerson);
+        } catch (RuntimeException e) {
+            paymentStatuses.update(editedPerson, target);
+            throw e;
+        }
+        if (viewedStudent == target) {
+            viewedStudent = editedPerson;
+        }
+        updateTotals(target, editedPerson);
+    }
+
+    @Override
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    @Override
+    public void commitBatch() {
+        if (batchDepth == 0) {
+            throw new IllegalStateException("No batch in progress");
+        }
+        batchDepth--;
+        if (isInBatch()) {
+            return;
+        }
+
+        if (pendingPersonPredicate != null) {
+            filteredPersons.setPredicate(pendingPersonPredicate);
+            pendingPersonPredicate = null;
+        }
+        if (hasPendingTotals) {
+            hasPendingTotals = false;
+            publishTotals();
+        }
+    }
+
+    private boolean isInBatch() {
+        return batchDepth > 0;
+    }
+
+    @Override
+    public void commitAddressBook() {
+        addressBook.commit();
+    }
+
+    @Override
+    public void rollbackAddressBook() {
+        Set<Student> students = addressBook.rollback();
+        if (!students.isEmpty()) {
+            refreshStudents(students);
+        }
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        refreshStudents(addressBook.undo());
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        refreshStudents(addressBook.redo());
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void clearAddressBookHistory() {
+        addressBook.clearHistory();
+    }
+
+    @Override
+    public AddressBookChanges takeAddressBookChanges() {
+        return addressBook.takeUnsavedChanges();
+    }
+
+    @Override
+    public boolean hasUnsavedAddressBookChanges() {
+        return addressBook.getChangeCount() != savedChangeCount;
+    }
+
+    @Override
+    public void markAddressBookSaved() {
+        savedChangeCount = addressBook.getChangeCount();
+    }
+
+    @Override
+    public void markAddressBookUnsaved() {
+        addressBook.markAllUnsaved();
+    }
+
+    /**
+     * Regroups and recounts {@code students} after an undo, redo or rollback may have added, removed or changed them.
+     */
+    private void refreshStudents(Set<Student> students) {
+        beginBatch();
+        try {
+            // all removed first, as the totals tell students apart by equality rather than identity
+            for (Student student : students) {
+                paymentStatuses.update(student, null);
+                updateTotals(student, null);
+            }
+            for (Student student : students) {
+                if (addressBook.containsExactly(student)) {
+                    paymentStatuses.update(null, student);
+                    updateTotals(null, student);
+                }
+            }
+        } finally {
+            commitBatch();
+        }
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -151,21 +290,37 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Student> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        setPersonPredicate(predicate);
     }
 
     @Override
-    public void updateFilteredPersonListByPaymentStatus(Predicate<Student> predicate) {
+    public void updateFilteredPersonListByPaymentStatus(PaymentStatus paymentStatus) {
+        requireNonNull(paymentStatus);
+        Set<Student> studentsWithStatus = paymentStatuses.getStudents(paymentStatus);
+        setPersonPredicate(studentsWithStatus::contains);
+    }
+
+    @Override
+    public int countPersonsWithPaymentStatus(PaymentStatus paymentStatus) {
+        return paymentStatuses.count(paymentStatus);
+    }
+
+    @Override
+    public void updateFilteredPersonListByKeywords(NameContainsKeywordsPredicate predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(person -> {
-            // Check if the person is a Student
-            if (person instanceof Student) {
-                // Apply the predicate to the Student
-                return predicate.test((Student) person);
-            }
-            // If not a Student, exclude from the filtered list
-            return false;
-        });
+        Set<Student> matches = addressBook.findPersons(predicate.getKeywords());
+        setPersonPredicate(matches::contains);
+    }
+
+    /**
+     * Applies {@code predicate} to the filtered person list, or to the end of the current batch if one is in progress.
+     */
+    private void setPersonPredicate(Predicate<Student> predicate) {
+        if (isInBatch()) {
+            pendingPersonPredicate = predicate;
+            return;
+        }
+        filteredPersons.setPredicate(predicate);
     }
 
     //=========== Filtered Lesson List Accessors =============================================================
@@ -183,8 +338,21 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public SortedList<Lesson> getSortedFilteredLessons() {
-        return sortedFilteredLessons;
+    public ObservableList<Lesson> getLessonsOn(Day day) {
+        return addressBook.getLessonsOn(day);
+    }
+
+    @Override
+    public void setViewedStudent(Student student) {
+        requireNonNull(student);
+        viewedStudent = student;
+    }
+
+    @Override
+    public ObservableList<Lesson> getViewedLessonList() {
+        return viewedStudent == null
+                ? FXCollections.emptyObservableList()
+                : viewedStudent.getLessonList().asUnmodifiableObservableList();
     }
 
     //====================================================================================================
@@ -221,10 +389,22 @@ public class ModelManager implements Model {
         requireNonNull(student);
         requireNonNull(lesson);
 
+        addressBook.touch(student);
+        beginBatch();
+        try {
+            addLessonToStudent(student, lesson);
+        } finally {
+            commitBatch();
+        }
+    }
+
+    private void addLessonToStudent(Student student, Lesson lesson) {
+
         addressBook.addLesson(lesson);
         LessonList ls = student.getLessonList();
         ls.addLesson(lesson);
         lesson.addStudent(student);
+        student.refreshPayments();
 
         LessonList oldLessonList = student.getLessonList();
         LessonList newLessonList = new LessonList(oldLessonList.getLessons());
@@ -242,8 +422,6 @@ public class ModelManager implements Model {
 
         setPerson(student, editedStudent);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        recomputeTotalEarnings();
-        recomputeTotalUnpaid();
     }
 
     @Override
@@ -251,50 +429,64 @@ public class ModelManager implements Model {
         requireNonNull(student);
         requireNonNull(lesson);
 
+        addressBook.touch(student);
         addressBook.removeLesson(lesson);
         LessonList ls = student.getLessonList();
         ls.deleteLesson(lesson);
+        student.refreshPayments();
+        paymentStatuses.update(student, student);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        recomputeTotalEarnings();
-        recomputeTotalUnpaid();
+        updateTotals(student, student);
     }
 
     @Override
     public void setLesson(Student student, Lesson target, Lesson editedLesson) {
         requireAllNonNull(target, editedLesson);
 
+        addressBook.touch(student);
         LessonList studentLessonList = student.getLessonList();
         studentLessonList.setLesson(target, editedLesson);
+        student.refreshPayments();
         addressBook.setLesson(target, editedLesson);
+        paymentStatuses.update(student, student);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        recomputeTotalEarnings();
-        recomputeTotalUnpaid();
+        updateTotals(student, student);
     }
 
     @Override
-    public ObservableFloatValue totalEarningsProperty() {
+    public ObservableLongValue totalEarningsProperty() {
         return totalEarnings.getReadOnlyProperty();
     }
 
-    private void recomputeTotalEarnings() {
-        float sum = 0f;
-        for (Student student : addressBook.getPersonList()) {
-            sum += student.getTotalAmountFloat();
-        }
-        totalEarnings.set(sum);
-    }
-
     @Override
-    public ObservableFloatValue totalUnpaidProperty() {
+    public ObservableLongValue totalUnpaidProperty() {
         return totalUnpaid.getReadOnlyProperty();
     }
 
-    private void recomputeTotalUnpaid() {
-        float sum = 0f;
-        for (Student student : addressBook.getPersonList()) {
-            sum += student.getAmountDueFloat();
+    /**
+     * Counts the contribution of every student to the totals afresh.
+     */
+    private void recomputeTotals() {
+        paymentTotals.reset(addressBook.getPersonList());
+        publishTotals();
+    }
+
+    /**
+     * Replaces the contribution of {@code before} to the totals with that of {@code after}.
+     * Either may be null when a student is only added or only removed.
+     */
+    private void updateTotals(Student before, Student after) {
+        paymentTotals.update(before, after);
+        publishTotals();
+    }
+
+    private void publishTotals() {
+        if (isInBatch()) {
+            hasPendingTotals = true;
+            return;
         }
-        totalUnpaid.set(sum);
+        totalEarnings.set(paymentTotals.getTotalEarnings());
+        totalUnpaid.set(paymentTotals.getTotalUnpaid());
     }
 
 }
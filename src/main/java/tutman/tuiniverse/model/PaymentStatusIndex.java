@@ -0,0 +1,87 @@
+package tutman.tuiniverse.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import tutman.tuiniverse.model.student.PaymentStatus;
+import tutman.tuiniverse.model.student.Student;
+
+/**
+ * Groups the students in the address book by their {@link PaymentStatus}.
+ * <p>
+ * The status each student was last seen with is remembered, so a student whose status changed in place
+ * (e.g. after paying) is moved out of its old group when it is next updated.
+ * Students are grouped by identity, since a student is replaced by a new instance whenever it is edited.
+ */
+class PaymentStatusIndex {
+
+    private final Map<PaymentStatus, Set<Student>> studentsByStatus = new EnumMap<>(PaymentStatus.class);
+    private final Map<Student, PaymentStatus> statusByStudent = new IdentityHashMap<>();
+
+    PaymentStatusIndex() {
+        for (PaymentStatus status : PaymentStatus.values()) {
+            studentsByStatus.put(status, Collections.newSetFromMap(new IdentityHashMap<>()));
+        }
+    }
+
+    /**
+     * Discards all groups and groups every student in {@code students} afresh.
+     */
+    void reset(Iterable<Student> students) {
+        requireNonNull(students);
+        statusByStudent.clear();
+        for (Set<Student> group : studentsByStatus.values()) {
+            group.clear();
+        }
+        for (Student student : students) {
+            add(student);
+        }
+    }
+
+    /**
+     * Removes {@code before} from its group and adds {@code after} to the group of its current status.
+     * Either may be null when a student is only added or only removed, and both may be the same student.
+     */
+    void update(Student before, Student after) {
+        if (before != null) {
+            remove(before);
+        }
+        if (after != null) {
+            add(after);
+        }
+    }
+
+    /**
+     * Returns an unmodifiable, live view of the students with {@code status}.
+     */
+    Set<Student> getStudents(PaymentStatus status) {
+        requireNonNull(status);
+        return Collections.unmodifiableSet(studentsByStatus.get(status));
+    }
+
+    /**
+     * Returns the number of students with {@code status}.
+     */
+    int count(PaymentStatus status) {
+        requireNonNull(status);
+        return studentsByStatus.get(status).size();
+    }
+
+    private void add(Student student) {
+        PaymentStatus status = student.getPaymentStatus();
+        statusByStudent.put(student, status);
+        studentsByStatus.get(status).add(student);
+    }
+
+    private void remove(Student student) {
+        PaymentStatus status = statusByStudent.remove(student);
+        if (status != null) {
+            studentsByStatus.get(status).remove(student);
+        }
+    }
+}
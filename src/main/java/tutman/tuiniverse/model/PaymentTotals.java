@@ -0,0 +1,109 @@
+package tutman.tuiniverse.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import tutman.tuiniverse.model.student.Student;
+
+/**
+ * Maintains the total earnings and total unpaid amount in cents across all students in the address book.
+ * <p>
+ * The contribution of every student is remembered when it is first counted, so that when a single student
+ * changes only the difference between its old and new contribution is applied to the totals,
+ * rather than summing over every student again.
+ * <p>
+ * The new contribution of a changed student is only counted when the totals are next read, so a student that
+ * changes several times in a row, e.g. while deleting each of its lessons, is only counted once.
+ */
+class PaymentTotals {
+
+    private final Map<Student, Contribution> contributions = new HashMap<>();
+    private final Set<Student> pending = new HashSet<>();
+    private long totalEarnings;
+    private long totalUnpaid;
+
+    /**
+     * Discards all remembered contributions and counts every student in {@code students} afresh.
+     */
+    void reset(Iterable<Student> students) {
+        requireNonNull(students);
+        contributions.clear();
+        pending.clear();
+        totalEarnings = 0;
+        totalUnpaid = 0;
+        for (Student student : students) {
+            add(student);
+        }
+    }
+
+    /**
+     * Replaces the contribution of {@code before} with that of {@code after}.
+     * Either argument may be null, for a student that is only being added or only being removed.
+     * {@code before} may also be the same instance as {@code after} if the student was modified in place.
+     */
+    void update(Student before, Student after) {
+        if (before != null) {
+            pending.remove(before);
+            remove(before);
+        }
+        if (after != null) {
+            pending.add(after);
+        }
+    }
+
+    long getTotalEarnings() {
+        countPending();
+        return totalEarnings;
+    }
+
+    long getTotalUnpaid() {
+        countPending();
+        return totalUnpaid;
+    }
+
+    private void countPending() {
+        for (Student student : pending) {
+            add(student);
+        }
+        pending.clear();
+    }
+
+    private void add(Student student) {
+        Contribution contribution = new Contribution(student.getTotalAmountCents(), student.getAmountDueCents());
+        Contribution replaced = contributions.put(student, contribution);
+        if (replaced != null) {
+            subtract(replaced);
+        }
+        totalEarnings += contribution.earnings;
+        totalUnpaid += contribution.unpaid;
+    }
+
+    private void remove(Student student) {
+        Contribution removed = contributions.remove(student);
+        if (removed != null) {
+            subtract(removed);
+        }
+    }
+
+    private void subtract(Contribution contribution) {
+        totalEarnings -= contribution.earnings;
+        totalUnpaid -= contribution.unpaid;
+    }
+
+    /**
+     * The amounts in cents a single student contributed to the totals when it was last counted.
+     */
+    private static class Contribution {
+        private final long earnings;
+        private final long unpaid;
+
+        Contribution(long earnings, long unpaid) {
+            this.earnings = earnings;
+            this.unpaid = unpaid;
+        }
+    }
+}
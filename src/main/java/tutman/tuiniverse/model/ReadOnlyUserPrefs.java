@@ -16,4 +16,6 @@ public interface ReadOnlyUserPrefs {
 
     YearMonth getLastOpened();
 
+    int getUndoHistoryDepth();
+
 }
@@ -1,6 +1,7 @@
 package tutman.tuiniverse.model;
 
 import static java.util.Objects.requireNonNull;
+import static tutman.tuiniverse.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -15,9 +16,12 @@ import tutman.tuiniverse.model.util.DateTimeUtil;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_DEPTH = 20;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "tuiniverse.json");
     private YearMonth lastOpened = DateTimeUtil.currentYearMonth();
+    private int undoHistoryDepth = DEFAULT_UNDO_HISTORY_DEPTH;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -40,6 +44,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setLastOpened(newUserPrefs.getLastOpened());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
     }
 
     public GuiSettings getGuiSettings() {
@@ -69,6 +74,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.lastOpened = lastOpened;
     }
 
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    /**
+     * Sets the number of commands that can be undone. Zero turns undo off.
+     */
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        checkArgument(undoHistoryDepth >= 0, "Undo history depth cannot be negative");
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -83,12 +100,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
                 && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
-                && lastOpened.equals(otherUserPrefs.lastOpened);
+                && lastOpened.equals(otherUserPrefs.lastOpened)
+                && undoHistoryDepth == otherUserPrefs.undoHistoryDepth;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, lastOpened);
+        return Objects.hash(guiSettings, addressBookFilePath, lastOpened, undoHistoryDepth);
     }
 
     @Override
@@ -97,6 +115,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
         sb.append("\nLast opened month : " + lastOpened);
+        sb.append("\nUndo history depth : " + undoHistoryDepth);
         return sb.toString();
     }
 
@@ -0,0 +1,309 @@
+package tutman.tuiniverse.model;
+
+import static java.util.Objects.requireNonNull;
+import static tutman.tuiniverse.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import tutman.tuiniverse.model.lesson.Lesson;
+import tutman.tuiniverse.model.student.Student;
+import tutman.tuiniverse.model.student.StudentState;
+
+/**
+ * An {@code AddressBook} that remembers the changes made since each commit, so that they can be undone and redone.
+ * <p>
+ * Rather than copying the whole address book at every commit, a version records only the operations applied to the
+ * person and lesson lists, and the {@link StudentState} of each student those operations touched, before and after.
+ * Students and lessons that were not touched are shared by every version, so recording a version costs as much as
+ * the students it changed. Only the most recent {@code maxDepth} versions can be undone.
+ * <p>
+ * Students whose lessons or payments are about to be changed in place must be passed to {@link #touch(Student)}
+ * first, so that their earlier state is saved.
+ * <p>
+ * Apart from the history, the students changed since the last {@link #takeUnsavedChanges()} are also remembered, so
+ * that only those need to be saved, and every change is counted, so that it can be told whether there is anything
+ * to save at all.
+ */
+class VersionedAddressBook extends AddressBook {
+
+    private final Deque<Version> undoStack = new ArrayDeque<>();
+    private final Deque<Version> redoStack = new ArrayDeque<>();
+    private Version pending = new Version();
+    private int maxDepth;
+    private final Set<Student> unsavedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+    private boolean isUnsavedReset;
+    private long changeCount;
+
+    /**
+     * Creates a {@code VersionedAddressBook} with the data in {@code initialState} and no history.
+     */
+    VersionedAddressBook(ReadOnlyAddressBook initialState, int maxDepth) {
+        super.resetData(initialState);
+        setMaxDepth(maxDepth);
+    }
+
+    //// recorded operations
+
+    @Override
+    public void resetData(ReadOnlyAddressBook newData) {
+        requireNonNull(newData);
+        List<Student> oldPersons = List.copyOf(getPersonList());
+        List<Lesson> oldLessons = List.copyOf(getLessonList());
+        super.resetData(newData);
+        List<Student> newPersons = List.copyOf(getPersonList());
+        List<Lesson> newLessons = List.copyOf(getLessonList());
+
+        pending.affected.addAll(oldPersons);
+        pending.affected.addAll(newPersons);
+        isUnsavedReset = true;
+        changeCount++;
+        pending.record(() -> {
+            super.setPersons(oldPersons);
+            super.setLessons(oldLessons);
+        }, () -> {
+            super.setPersons(newPersons);
+            super.setLessons(newLessons);
+        });
+    }
+
+    @Override
+    public void addPerson(Student p) {
+        super.addPerson(p);
+        pending.changed.add(p);
+        markUnsaved(p);
+        pending.record(() -> super.removePerson(p), () -> super.addPerson(p));
+    }
+
+    @Override
+    public void setPerson(Student target, Student editedPerson) {
+        super.setPerson(target, editedPerson);
+        touch(target);
+        pending.changed.add(editedPerson);
+        markUnsaved(editedPerson);
+        pending.record(() -> super.setPerson(editedPerson, target), () -> super.setPerson(target, editedPerson));
+    }
+
+    @Override
+    public void removePerson(Student key) {
+        int index = getPersonList().indexOf(key);
+        super.removePerson(key);
+        touch(key);
+        pending.record(() -> super.addPerson(index, key), () -> super.removePerson(key));
+    }
+
+    @Override
+    public void addLesson(Lesson l) {
+        super.addLesson(l);
+        changeCount++;
+        pending.record(() -> super.removeLesson(l), () -> super.addLesson(l));
+    }
+
+    @Override
+    public void setLesson(Lesson target, Lesson editedLesson) {
+        super.setLesson(target, editedLesson);
+        changeCount++;
+        pending.record(() -> super.setLesson(editedLesson, target), () -> super.setLesson(target, editedLesson));
+    }
+
+    @Override
+    public void removeLesson(Lesson key) {
+        super.removeLesson(key);
+        changeCount++;
+        pending.record(() -> super.addLesson(key), () -> super.removeLesson(key));
+    }
+
+    /**
+     * Saves the current state of {@code student}, unless it was already saved since the last commit.
+     * Replacing or removing a student does not change it, so this may also be called after doing so.
+     */
+    void touch(Student student) {
+        requireNonNull(student);
+        pending.changed.add(student);
+        pending.statesBefore.computeIfAbsent(student, Student::saveState);
+        markUnsaved(student);
+    }
+
+    private void markUnsaved(Student student) {
+        unsavedPersons.add(student);
+        changeCount++;
+    }
+
+    private void markUnsaved(Set<Student> students) {
+        unsavedPersons.addAll(students);
+        changeCount++;
+    }
+
+    /**
+     * Marks the whole address book as unsaved, so that the next changes taken replace all of it.
+     */
+    void markAllUnsaved() {
+        isUnsavedReset = true;
+        changeCount++;
+    }
+
+    /**
+     * Returns the number of changes made to this address book, including undoing and redoing.
+     * It only ever increases, so it can be compared against an earlier count to tell if anything changed since.
+     */
+    long getChangeCount() {
+        return changeCount;
+    }
+
+    /**
+     * Returns the changes made since the last call, including those made by undoing and redoing, and forgets them.
+     */
+    AddressBookChanges takeUnsavedChanges() {
+        AddressBookChanges changes = isUnsavedReset ? AddressBookChanges.RESET : AddressBookChanges.of(unsavedPersons);
+        unsavedPersons.clear();
+        isUnsavedReset = false;
+        return changes;
+    }
+
+    //// history
+
+    /**
+     * Saves the changes made since the last commit as a new version, discarding any undone versions.
+     * Does nothing if there were no changes.
+     */
+    void commit() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        for (Student student : pending.changed) {
+            pending.statesAfter.put(student, student.saveState());
+        }
+        pending.affected.addAll(pending.changed);
+        undoStack.push(pending);
+        redoStack.clear();
+        pending = new Version();
+        trimHistory();
+    }
+
+    /**
+     * Discards the changes made since the last commit, restoring the address book to the latest version, so that
+     * the changes of an operation that failed part way are not saved with the next version.
+     *
+     * @return the students that may have been added, removed or changed in place.
+     */
+    Set<Student> rollback() {
+        Version version = pending;
+        pending = new Version();
+        for (int i = version.undoActions.size() - 1; i >= 0; i--) {
+            version.undoActions.get(i).run();
+        }
+        restore(version.statesBefore);
+        version.affected.addAll(version.changed);
+        if (!version.affected.isEmpty()) {
+            markUnsaved(version.affected);
+        }
+        return Collections.unmodifiableSet(version.affected);
+    }
+
+    boolean canUndo() {
+        return !undoStack.isEmpty() || (maxDepth > 0 && !pending.isEmpty());
+    }
+
+    boolean canRedo() {
+        return pending.isEmpty() && !redoStack.isEmpty();
+    }
+
+    /**
+     * Restores the address book to the version before the latest commit, committing any pending changes first.
+     *
+     * @return the students that may have been added, removed or changed in place.
+     */
+    Set<Student> undo() {
+        commit();
+        if (undoStack.isEmpty()) {
+            throw new IllegalStateException("No version to undo");
+        }
+        Version version = undoStack.pop();
+        for (int i = version.undoActions.size() - 1; i >= 0; i--) {
+            version.undoActions.get(i).run();
+        }
+        restore(version.statesBefore);
+        markUnsaved(version.affected);
+        redoStack.push(version);
+        return Collections.unmodifiableSet(version.affected);
+    }
+
+    /**
+     * Restores the address book to the version undone most recently.
+     *
+     * @return the students that may have been added, removed or changed in place.
+     */
+    Set<Student> redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("No version to redo");
+        }
+        Version version = redoStack.pop();
+        for (Runnable action : version.redoActions) {
+            action.run();
+        }
+        restore(version.statesAfter);
+        markUnsaved(version.affected);
+        undoStack.push(version);
+        return Collections.unmodifiableSet(version.affected);
+    }
+
+    /**
+     * Forgets all versions and any pending changes, so that the current data cannot be undone.
+     */
+    void clearHistory() {
+        undoStack.clear();
+        redoStack.clear();
+        pending = new Version();
+    }
+
+    /**
+     * Sets the number of versions that can be undone, forgetting the oldest versions beyond it.
+     */
+    void setMaxDepth(int maxDepth) {
+        checkArgument(maxDepth >= 0, "History depth cannot be negative");
+        this.maxDepth = maxDepth;
+        trimHistory();
+    }
+
+    private void trimHistory() {
+        while (undoStack.size() > maxDepth) {
+            undoStack.removeLast();
+        }
+    }
+
+    private void restore(Map<Student, StudentState> states) {
+        for (Map.Entry<Student, StudentState> entry : states.entrySet()) {
+            entry.getKey().restoreState(entry.getValue());
+            refreshOwnership(entry.getKey());
+        }
+    }
+
+    /**
+     * The changes made to the address book between two commits.
+     */
+    private static class Version {
+        private final List<Runnable> undoActions = new ArrayList<>();
+        private final List<Runnable> redoActions = new ArrayList<>();
+        /** Students added, replaced or changed in place, whose state is saved at the commit. */
+        private final Set<Student> changed = Collections.newSetFromMap(new IdentityHashMap<>());
+        /** The changed students, and every student in the person lists replaced by a reset. */
+        private final Set<Student> affected = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final Map<Student, StudentState> statesBefore = new IdentityHashMap<>();
+        private final Map<Student, StudentState> statesAfter = new IdentityHashMap<>();
+
+        void record(Runnable undoAction, Runnable redoAction) {
+            undoActions.add(undoAction);
+            redoActions.add(redoAction);
+        }
+
+        boolean isEmpty() {
+            return undoActions.isEmpty();
+        }
+    }
+}
@@ -8,6 +8,9 @@ import java.time.DayOfWeek;
 /**
  * Represents the day of a Lesson.
  * Guarantees: immutable; is valid as declared in {@link #isValidDay(String)}
+ * <p>
+ * There are only seven days, so the {@code of} factories return one shared instance per day.
+ * Prefer them to the constructors.
  */
 public class Day {
 
@@ -15,6 +18,14 @@ public class Day {
             + "[Monday], [Tuesday], [Wednesday], [Thursday], [Friday], [Saturday], [Sunday]";
     public static final String VALIDATION_REGEX = "\\d";
 
+    private static final Day[] DAYS = new Day[DayOfWeek.values().length];
+
+    static {
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            DAYS[dayOfWeek.ordinal()] = new Day(dayOfWeek.getValue());
+        }
+    }
+
     private final DayOfWeek day;
 
     /**
@@ -47,6 +58,38 @@ public class Day {
     }
 
 
+    /**
+     * Returns the shared {@code Day} for {@code dayOfWeek}.
+     */
+    public static Day of(DayOfWeek dayOfWeek) {
+        return DAYS[dayOfWeek.ordinal()];
+    }
+
+    /**
+     * Returns the shared {@code Day} named by {@code str}, e.g. {@code "monday"}.
+     *
+     * @param str A valid string representing a day.
+     */
+    public static Day of(String str) {
+        try {
+            return of(DayOfWeek.valueOf(str.trim().toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid day format. Use day name like MONDAY.");
+        }
+    }
+
+    /**
+     * Returns the shared {@code Day} numbered {@code day}, from 1 for Monday to 7 for Sunday.
+     *
+     * @param day A valid integer corresponding to a day.
+     */
+    public static Day of(int day) {
+        if (day < 1 || day > DAYS.length) {
+            // rejected by the constructor with the same message as before
+            return new Day(day);
+        }
+        return of(DayOfWeek.of(day));
+    }
 
     /**
      * Checks if the given string is a valid day.
@@ -74,11 +117,7 @@ public class Day {
      * @return an array of Strings
      */
     public static Day[] values() {
-        Day[] days = new Day[7];
-        for (int i = 1; i <= 7; i++) {
-            days[i - 1] = new Day(i);
-        }
-        return days;
+        return DAYS.clone();
     }
 
     @Override
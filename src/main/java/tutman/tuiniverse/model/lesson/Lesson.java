@@ -4,10 +4,12 @@ import static tutman.tuiniverse.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.Duration;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.Objects;
 
 import tutman.tuiniverse.model.student.Address;
 import tutman.tuiniverse.model.student.Student;
+import tutman.tuiniverse.model.util.MonthCalendar;
 
 /**
  * Represents a Lesson.
@@ -15,6 +17,8 @@ import tutman.tuiniverse.model.student.Student;
  * Fields student and address may be null, can only be fixed when the student class has been created.
  */
 public class Lesson {
+    private static final long MINUTES_PER_HOUR = 60;
+
     private Student student;
     private Subject subject;
     private Level level;
@@ -93,6 +97,15 @@ public class Lesson {
         return lessonTime.getDurationDouble();
     }
 
+    /**
+     * Returns the day and lesson time of this lesson packed into one key: the day of the week above the
+     * {@link LessonTime#getKey() lesson time key}. Two lessons clash exactly when
+     * {@link LessonTime#isClash(int, int)} holds for their slot keys.
+     */
+    public int getSlotKey() {
+        return (day.getDayOfWeek().ordinal() << LessonTime.KEY_BITS) | lessonTime.getKey();
+    }
+
     public Student getStudent() {
         return student;
     }
@@ -102,13 +115,21 @@ public class Lesson {
     }
 
     /**
-     * Returns the amount earned in $ from one lesson per week.
-     * This is the product of the hourly rate and the duration of the class in hours.
+     * Returns the amount earned in cents from one lesson per week.
+     * This is the product of the hourly rate and the duration of the class in hours, rounded half up to the
+     * nearest cent.
      *
-     * @return product of the hourly rate and the duration of the class in hours as a float
+     * @return product of the hourly rate and the duration of the class in hours, in cents
+     */
+    public long getAmountEarnedCents() {
+        return (rate.getCentsPerHour() * lessonTime.getDurationMinutes() + MINUTES_PER_HOUR / 2) / MINUTES_PER_HOUR;
+    }
+
+    /**
+     * Returns the amount earned in cents from this lesson in {@code month}, counting every occurrence of its day.
      */
-    public float getAmountEarned() {
-        return (float) getDurationDouble() * rate.getRate();
+    public long getAmountEarnedCents(YearMonth month) {
+        return MonthCalendar.countOccurrences(month, day.getDayOfWeek()) * getAmountEarnedCents();
     }
 
     /**
@@ -137,8 +158,7 @@ public class Lesson {
         }
 
         Lesson otherLesson = (Lesson) other;
-        return day.getDayOfWeek().equals(otherLesson.day.getDayOfWeek())
-                && lessonTime.hasTimeClash(otherLesson.lessonTime);
+        return LessonTime.isClash(getSlotKey(), otherLesson.getSlotKey());
     }
 
     /**
@@ -158,8 +178,7 @@ public class Lesson {
 
         Lesson otherLesson = (Lesson) other;
 
-        return day.getDayOfWeek().equals(otherLesson.day.getDayOfWeek())
-                && lessonTime.equals(otherLesson.lessonTime)
+        return getSlotKey() == otherLesson.getSlotKey()
                 && subject.equals(otherLesson.subject)
                 && level.equals(otherLesson.level);
         //&& student.equals(otherLesson.student)
@@ -170,13 +189,14 @@ public class Lesson {
 
     @Override
     public int hashCode() {
-        return Objects.hash(student, subject, level, day, lessonTime, rate, address);
+        // only the fields compared by equals, which never change
+        return Objects.hash(getSlotKey(), subject, level);
     }
 
     @Override
     public String toString() {
-        return String.format("Subject: %s, Level: %s, Day: %s, Time: %s, Rate: %.2f, Address: %s",
-                subject, level, day, lessonTime, rate.getRate(), address);
+        return String.format("Subject: %s, Level: %s, Day: %s, Time: %s, Rate: %s, Address: %s",
+                subject, level, day, lessonTime, rate, address);
     }
 
 }
@@ -14,7 +14,6 @@ import javafx.collections.ObservableList;
 import tutman.tuiniverse.model.lesson.exceptions.DuplicateLessonException;
 import tutman.tuiniverse.model.lesson.exceptions.LessonException;
 import tutman.tuiniverse.model.lesson.exceptions.LessonNotFoundException;
-import tutman.tuiniverse.model.util.DateTimeUtil;
 
 /**
  * Represents a list of lessons.
@@ -24,6 +23,7 @@ import tutman.tuiniverse.model.util.DateTimeUtil;
 public class LessonList {
     private final ObservableList<Lesson> lessons;
     private final ObservableList<Lesson> unmodifiableLessons;
+    private final LessonSchedule schedule = new LessonSchedule();
 
     /**
      * Constructs a new lesson list by creating an empty array list.
@@ -41,6 +41,7 @@ public class LessonList {
     public LessonList(Collection<Lesson> ll) {
         this.lessons = FXCollections.observableArrayList(Objects.requireNonNull(ll));
         this.unmodifiableLessons = FXCollections.unmodifiableObservableList(this.lessons);
+        this.schedule.addAll(this.lessons);
     }
 
     /*
@@ -84,12 +85,20 @@ public class LessonList {
         return new ArrayList<>(lessons);
     }
 
+    /**
+     * Returns the lessons as an unmodifiable {@code ObservableList}, kept up to date as lessons are changed.
+     */
+    public ObservableList<Lesson> asUnmodifiableObservableList() {
+        return unmodifiableLessons;
+    }
+
     /**
      * Adds a new lesson to the lesson list.
      * Overloaded method to take in current lesson instead of creating new lesson object.
      */
     public LessonList addLesson(Lesson lesson) {
         if (!this.hasLesson(lesson) && !this.hasTimeClash(lesson)) {
+            schedule.add(lesson);
             lessons.add(lesson);
         }
         return this;
@@ -102,7 +111,7 @@ public class LessonList {
     public void deleteLesson(Lesson lesson) {
         int ind = lessons.indexOf(lesson);
         if (ind != -1) {
-            lessons.remove(ind);
+            schedule.remove(lessons.remove(ind));
         } else {
             throw new LessonNotFoundException();
         }
@@ -130,10 +139,20 @@ public class LessonList {
             throw new DuplicateLessonException();
         }
 
+        schedule.replace(lessons.get(index), editedLesson);
         lessons.set(index, editedLesson);
 
     }
 
+    /**
+     * Replaces the contents of this list with {@code replacement}, with a single change to any listeners.
+     */
+    public void setLessons(Collection<Lesson> replacement) {
+        requireNonNull(replacement);
+        schedule.setAll(replacement);
+        lessons.setAll(replacement);
+    }
+
     public boolean isEmpty() {
         return this.getSize() == 0;
     }
@@ -152,63 +171,28 @@ public class LessonList {
         return lessons.stream().anyMatch(lesson::equals);
     }
 
-    /**
-     * Checks if the specified lesson has time clashes with any lessons in this lesson list.
-     *
-     * <p>Iterates through all lessons starting from index 1 up to the size of the list,
-     * and compares each lesson with the given lesson for time clashes.</p>
-     *
-     * @param lesson the Lesson to check for time clashes in this list
-     * @return true if the lesson is found in the list; false otherwise or if an exception occurs
-     */
+    /** Returns true if {@code lesson} has a time clash with any lesson in this list. */
     public boolean hasTimeClash(Lesson lesson) {
-        for (Lesson lesson1 : lessons) {
-            if (lesson1.hasTimeClash(lesson)) {
-                return true;
-            }
-        }
-        return false;
+        return schedule.hasTimeClash(lesson);
     }
 
-    /**
-     * Checks if the specified lesson has time clashes with any lessons in the lesson list, excluding the target lesson.
-     *
-     * <p>Iterates through all lessons starting from index 1 up to the size of the list,
-     * and compares each lesson with the given lesson for time clashes, excluding the target lesson.</p>
-     *
-     * @param lesson the Lesson to check for time clashes in this list
-     * @param target the Lesson to exclude for time clash check
-     * @return true if the lesson is found in the list; false otherwise or if an exception occurs
-     */
+    /** Returns true if {@code lesson} has a time clash with any lesson in this list other than {@code target}. */
     public boolean hasTimeClashExcludingTargetLesson(Lesson lesson, Lesson target) {
-        for (Lesson lesson1 : lessons) {
-            if (!lesson1.equals(target) && lesson1.hasTimeClash(lesson)) {
-                return true;
-            }
-        }
-        return false;
+        return schedule.hasTimeClashExcludingTargetLesson(lesson, target);
     }
 
     /**
-     * Returns the total amount earned per month for a list of lessons
+     * Returns the total amount earned per month for a list of lessons, in cents.
      *
      * @param month a YearMonth object, usually current month
-     * @return float representing the sum of all amounts earned per lesson.
+     * @return the sum of all amounts earned per lesson in the month, in cents.
      */
-    public float getTotalAmountEarned(YearMonth month) {
-        float totalAmountEarned = 0;
+    public long getTotalCentsEarned(YearMonth month) {
+        long totalCentsEarned = 0;
         for (Lesson l : lessons) {
-            Day day = l.getDay();
-
-            // count number of lessons in a month based on local month
-            int daysInMonth = DateTimeUtil.countDaysOfWeekInMonth(month, day);
-
-            float amountPerLesson = l.getAmountEarned();
-            float amountPerMonth = daysInMonth * amountPerLesson;
-
-            totalAmountEarned += amountPerMonth;
+            totalCentsEarned += l.getAmountEarnedCents(month);
         }
-        return totalAmountEarned;
+        return totalCentsEarned;
     }
 
     /**
@@ -0,0 +1,308 @@
+package tutman.tuiniverse.model.lesson;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * An index of lessons bucketed by {@code Day} and ordered by start time, used to answer time clash queries
+ * without scanning every lesson, and to show the lessons of a day without filtering and sorting all lessons.
+ * <p>
+ * The owning lists never hold lessons that clash with each other, so of the lessons starting no later than the
+ * queried lesson, only the last one can still be running when it starts, and of those starting no earlier, only the
+ * first one can start before it ends. A clash query therefore only compares the two neighbours of the queried start
+ * time. The schedule must be kept in sync by its owning list on every add, replace and removal.
+ * <p>
+ * Each day's lessons are kept in a list with a lesson inserted at its sorted position, so the list never needs to be
+ * sorted again. Lessons starting at the same time keep the order they were added in. Only a schedule created to be
+ * observed keeps them in observable lists, as the many small schedules used only for clash queries need not pay
+ * for them.
+ */
+public class LessonSchedule {
+
+    private static final Comparator<Lesson> START_TIME_ORDER = Comparator.comparingInt(LessonSchedule::startOf);
+
+    private final Map<DayOfWeek, DaySchedule> days = new EnumMap<>(DayOfWeek.class);
+    private final boolean isObservable;
+
+    /**
+     * Creates an empty schedule that can only be queried for time clashes.
+     */
+    public LessonSchedule() {
+        this(false);
+    }
+
+    /**
+     * Creates an empty schedule. If {@code isObservable}, the lessons of each day can also be observed
+     * with {@link #getLessonsOn(DayOfWeek)}.
+     */
+    public LessonSchedule(boolean isObservable) {
+        this.isObservable = isObservable;
+    }
+
+    /**
+     * Indexes {@code lesson} under its day and start time.
+     */
+    public void add(Lesson lesson) {
+        requireNonNull(lesson);
+        scheduleOf(dayOf(lesson)).add(lesson);
+    }
+
+    /**
+     * Indexes every lesson in {@code lessons}.
+     */
+    public void addAll(Collection<Lesson> lessons) {
+        requireNonNull(lessons);
+        for (Lesson lesson : lessons) {
+            add(lesson);
+        }
+    }
+
+    /**
+     * Removes one lesson equal to {@code lesson} from the index, if present.
+     */
+    public void remove(Lesson lesson) {
+        requireNonNull(lesson);
+        DaySchedule daySchedule = days.get(dayOf(lesson));
+        if (daySchedule != null) {
+            daySchedule.remove(lesson);
+        }
+    }
+
+    /**
+     * Removes {@code target} from the index and indexes {@code editedLesson} in its place.
+     * If both are on the same day and start at the same time, the lesson is replaced in place.
+     */
+    public void replace(Lesson target, Lesson editedLesson) {
+        requireNonNull(target);
+        requireNonNull(editedLesson);
+        if (dayOf(target) == dayOf(editedLesson) && startOf(target) == startOf(editedLesson)
+                && scheduleOf(dayOf(target)).set(target, editedLesson)) {
+            return;
+        }
+        remove(target);
+        add(editedLesson);
+    }
+
+    /**
+     * Removes every lesson from the index.
+     */
+    public void clear() {
+        for (DaySchedule daySchedule : days.values()) {
+            daySchedule.lessons.clear();
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code lessons}, with a single change to each day's list.
+     */
+    public void setAll(Collection<Lesson> lessons) {
+        requireNonNull(lessons);
+        Map<DayOfWeek, List<Lesson>> grouped = new EnumMap<>(DayOfWeek.class);
+        for (Lesson lesson : lessons) {
+            grouped.computeIfAbsent(dayOf(lesson), unused -> new ArrayList<>()).add(lesson);
+        }
+        for (Map.Entry<DayOfWeek, DaySchedule> entry : days.entrySet()) {
+            if (!grouped.containsKey(entry.getKey())) {
+                entry.getValue().lessons.clear();
+            }
+        }
+        for (Map.Entry<DayOfWeek, List<Lesson>> entry : grouped.entrySet()) {
+            List<Lesson> dayLessons = entry.getValue();
+            dayLessons.sort(START_TIME_ORDER); // stable, so equal start times keep their order
+            scheduleOf(entry.getKey()).setAll(dayLessons);
+        }
+    }
+
+    /**
+     * Returns the lessons on {@code day} as an unmodifiable {@code ObservableList}, sorted by start time.
+     * The list is kept up to date as lessons are added, replaced and removed.
+     *
+     * @throws IllegalStateException if this schedule was not created to be observed.
+     */
+    public ObservableList<Lesson> getLessonsOn(DayOfWeek day) {
+        requireNonNull(day);
+        if (!isObservable) {
+            throw new IllegalStateException("Lessons of this schedule cannot be observed");
+        }
+        return scheduleOf(day).unmodifiableLessons;
+    }
+
+    /**
+     * Returns true if any indexed lesson has a time clash with {@code lesson}.
+     */
+    public boolean hasTimeClash(Lesson lesson) {
+        requireNonNull(lesson);
+        return findTimeClash(lesson, null);
+    }
+
+    /**
+     * Returns true if any indexed lesson, other than lessons equal to {@code target}, has a time clash
+     * with {@code lesson}.
+     */
+    public boolean hasTimeClashExcludingTargetLesson(Lesson lesson, Lesson target) {
+        requireNonNull(lesson);
+        requireNonNull(target);
+        return findTimeClash(lesson, target);
+    }
+
+    private boolean findTimeClash(Lesson lesson, Lesson excluded) {
+        DaySchedule daySchedule = days.get(dayOf(lesson));
+        if (daySchedule == null) {
+            return false;
+        }
+
+        int start = startOf(lesson);
+        return daySchedule.clashesWithNearest(lesson, excluded, daySchedule.upperBound(start) - 1, -1)
+                || daySchedule.clashesWithNearest(lesson, excluded, daySchedule.lowerBound(start), 1);
+    }
+
+    private DaySchedule scheduleOf(DayOfWeek day) {
+        return days.computeIfAbsent(day, unused -> new DaySchedule(isObservable));
+    }
+
+    private static DayOfWeek dayOf(Lesson lesson) {
+        return lesson.getDay().getDayOfWeek();
+    }
+
+    private static int startOf(Lesson lesson) {
+        return lesson.getLessonTime().getStartMinute();
+    }
+
+    /**
+     * Lessons of a single day, ordered by start time.
+     */
+    private static class DaySchedule {
+        private final List<Lesson> lessons;
+        private final ObservableList<Lesson> observableLessons;
+        private final ObservableList<Lesson> unmodifiableLessons;
+
+        /**
+         * Creates an empty day, with its lessons kept in an observable list only if {@code isObservable}.
+         */
+        DaySchedule(boolean isObservable) {
+            if (isObservable) {
+                observableLessons = FXCollections.observableArrayList();
+                unmodifiableLessons = FXCollections.unmodifiableObservableList(observableLessons);
+                lessons = observableLessons;
+            } else {
+                observableLessons = null;
+                unmodifiableLessons = null;
+                lessons = new ArrayList<>();
+            }
+        }
+
+        /**
+         * Inserts {@code lesson} after any lessons starting at the same time.
+         */
+        void add(Lesson lesson) {
+            lessons.add(upperBound(startOf(lesson)), lesson);
+        }
+
+        void remove(Lesson lesson) {
+            int index = indexOf(lesson);
+            if (index != -1) {
+                lessons.remove(index);
+            }
+        }
+
+        /**
+         * Replaces the lessons with {@code sortedLessons}, with a single change if they are observed.
+         */
+        void setAll(List<Lesson> sortedLessons) {
+            if (observableLessons != null) {
+                observableLessons.setAll(sortedLessons);
+                return;
+            }
+            lessons.clear();
+            lessons.addAll(sortedLessons);
+        }
+
+        /**
+         * Replaces {@code target} with {@code editedLesson}, which starts at the same time, with a single change.
+         * Returns false if {@code target} is not in the list.
+         */
+        boolean set(Lesson target, Lesson editedLesson) {
+            int index = indexOf(target);
+            if (index == -1) {
+                return false;
+            }
+            lessons.set(index, editedLesson);
+            return true;
+        }
+
+        /**
+         * Returns true if {@code lesson} clashes with the nearest lessons walking from {@code from} in steps of
+         * {@code step}, that is, those of the first start time reached with a lesson other than {@code excluded}.
+         */
+        boolean clashesWithNearest(Lesson lesson, Lesson excluded, int from, int step) {
+            int nearestStart = -1;
+            for (int i = from; i >= 0 && i < lessons.size(); i += step) {
+                Lesson indexed = lessons.get(i);
+                if (excluded != null && indexed.equals(excluded)) {
+                    continue;
+                }
+                if (nearestStart != -1 && startOf(indexed) != nearestStart) {
+                    return false;
+                }
+                if (indexed.hasTimeClash(lesson)) {
+                    return true;
+                }
+                nearestStart = startOf(indexed);
+            }
+            return false;
+        }
+
+        /**
+         * Returns the index of the lesson equal to {@code lesson}, or -1 if absent.
+         * Only the lessons starting at the same time as {@code lesson} are compared.
+         */
+        int indexOf(Lesson lesson) {
+            int start = startOf(lesson);
+            for (int i = lowerBound(start); i < lessons.size() && startOf(lessons.get(i)) == start; i++) {
+                if (lessons.get(i).equals(lesson)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Returns the index of the first lesson starting at or after {@code start}.
+         */
+        int lowerBound(int start) {
+            return search(start, false);
+        }
+
+        /**
+         * Returns the index of the first lesson starting after {@code start}.
+         */
+        int upperBound(int start) {
+            return search(start, true);
+        }
+
+        private int search(int start, boolean isAfter) {
+            int low = 0;
+            int high = lessons.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                int midStart = startOf(lessons.get(mid));
+                if (midStart < start || (isAfter && midStart == start)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
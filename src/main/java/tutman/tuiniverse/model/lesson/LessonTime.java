@@ -6,9 +6,15 @@ import java.time.Duration;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 
+import tutman.tuiniverse.commons.util.Interner;
+
 /**
- * Represents a Lesson's end time.
+ * Represents a Lesson's start and end time.
  * Guarantees: immutable; is valid as declared in {@link #isValidLessonTime(String, String)}
+ * <p>
+ * Both times are held as minutes of the day, packed into a single {@code int} key with the start minute in the
+ * high bits, so that clash checks, ordering and hashing are plain integer operations.
+ * A lesson adds its day of the week above these bits, see {@link Lesson#getSlotKey()}.
  */
 public class LessonTime implements Comparable<LessonTime> {
 
@@ -20,8 +26,15 @@ public class LessonTime implements Comparable<LessonTime> {
     public static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
     public static final String VALIDATION_REGEX = "^([01]\\d|2[0-3]):([0-5]\\d)$";
 
-    private final LocalTime start;
-    private final LocalTime end;
+    /** Number of bits of a key used by the start and end minutes. Higher bits may be used by callers. */
+    public static final int KEY_BITS = 22;
+
+    private static final int MINUTE_BITS = KEY_BITS / 2;
+    private static final int MINUTE_MASK = (1 << MINUTE_BITS) - 1;
+    private static final int MINUTES_PER_HOUR = 60;
+    private static final Interner<LessonTime> INTERNER = new Interner<>();
+
+    private final int key;
 
     /**
      * Constructs an {@code LessonTime}.
@@ -30,12 +43,12 @@ public class LessonTime implements Comparable<LessonTime> {
      * @param end The LocalTime end time of the lesson.
      */
     private LessonTime(LocalTime start, LocalTime end) {
-        this.start = start;
-        this.end = end;
+        this.key = (minuteOf(start) << MINUTE_BITS) | minuteOf(end);
     }
 
     /**
      * Factory constructor of an {@code LessonTime}.
+     * Equal lesson times share one instance, as most lessons start and end on the same few times.
      *
      * @param strStart A valid start time.
      * @param strEnd A valid end time.
@@ -44,7 +57,17 @@ public class LessonTime implements Comparable<LessonTime> {
         checkArgument(isValidLessonTime(strStart, strEnd), MESSAGE_CONSTRAINTS);
         LocalTime startTime = parseTime(strStart);
         LocalTime endTime = parseTime(strEnd);
-        return new LessonTime(startTime, endTime);
+        return INTERNER.intern(new LessonTime(startTime, endTime));
+    }
+
+    /**
+     * Returns the shared {@code LessonTime} from {@code startMinute} to {@code endMinute}, both in minutes since
+     * midnight.
+     */
+    public static LessonTime ofMinutes(int startMinute, int endMinute) {
+        checkArgument(startMinute >= 0 && startMinute < endMinute && endMinute < 24 * MINUTES_PER_HOUR,
+                MESSAGE_CONSTRAINTS);
+        return INTERNER.intern(new LessonTime(toLocalTime(startMinute), toLocalTime(endMinute)));
     }
 
     /**
@@ -102,15 +125,44 @@ public class LessonTime implements Comparable<LessonTime> {
     }
 
     public LocalTime getStart() {
-        return start;
+        return toLocalTime(getStartMinute());
     }
 
     public LocalTime getEnd() {
-        return end;
+        return toLocalTime(getEndMinute());
+    }
+
+    /**
+     * Returns the start time as minutes since midnight.
+     */
+    public int getStartMinute() {
+        return startMinuteOf(key);
+    }
+
+    /**
+     * Returns the end time as minutes since midnight.
+     */
+    public int getEndMinute() {
+        return endMinuteOf(key);
+    }
+
+    /**
+     * Returns the start and end minutes packed into one key, ordered by start minute and then by end minute.
+     * Only the lowest {@link #KEY_BITS} bits are used.
+     */
+    public int getKey() {
+        return key;
     }
 
     public Duration getDuration() {
-        return Duration.between(start, end);
+        return Duration.ofMinutes(getDurationMinutes());
+    }
+
+    /**
+     * Returns the length of the class in whole minutes.
+     */
+    public long getDurationMinutes() {
+        return getEndMinute() - getStartMinute();
     }
 
     /**
@@ -135,21 +187,30 @@ public class LessonTime implements Comparable<LessonTime> {
         }
 
         LessonTime otherTime = (LessonTime) other;
-        return this.start.isBefore(otherTime.end) && otherTime.start.isBefore(this.end);
+        return isClash(key, otherTime.key);
     }
 
+    /**
+     * Returns true if the keys have the same bits above {@link #KEY_BITS} and their times overlap.
+     * Lesson times that only touch, one ending when the other starts, do not overlap.
+     */
+    public static boolean isClash(int key, int otherKey) {
+        return (key >>> KEY_BITS) == (otherKey >>> KEY_BITS)
+                && startMinuteOf(key) < endMinuteOf(otherKey)
+                && startMinuteOf(otherKey) < endMinuteOf(key);
+    }
+
+    /**
+     * Compares lesson times by start time only.
+     */
     @Override
     public int compareTo(LessonTime other) {
-        return this.start.isBefore(other.getStart())
-                ? -1
-                : this.start.equals(other.getStart())
-                ? 0
-                : 1;
+        return Integer.compare(getStartMinute(), other.getStartMinute());
     }
 
     @Override
     public String toString() {
-        return start.toString() + " - " + end.toString();
+        return getStart() + " - " + getEnd();
     }
 
     @Override
@@ -164,13 +225,27 @@ public class LessonTime implements Comparable<LessonTime> {
         }
 
         LessonTime otherTime = (LessonTime) other;
-        boolean isSameStart = this.start.equals(otherTime.start);
-        boolean isSameEnd = this.end.equals(otherTime.end);
-        return isSameStart && isSameEnd;
+        return key == otherTime.key;
     }
 
     @Override
     public int hashCode() {
-        return end.hashCode();
+        return key;
+    }
+
+    private static int minuteOf(LocalTime time) {
+        return time.getHour() * MINUTES_PER_HOUR + time.getMinute();
+    }
+
+    private static LocalTime toLocalTime(int minuteOfDay) {
+        return LocalTime.of(minuteOfDay / MINUTES_PER_HOUR, minuteOfDay % MINUTES_PER_HOUR);
+    }
+
+    private static int startMinuteOf(int key) {
+        return (key >>> MINUTE_BITS) & MINUTE_MASK;
+    }
+
+    private static int endMinuteOf(int key) {
+        return key & MINUTE_MASK;
     }
 }
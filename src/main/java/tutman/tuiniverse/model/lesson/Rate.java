@@ -2,14 +2,22 @@ package tutman.tuiniverse.model.lesson;
 
 import static tutman.tuiniverse.commons.util.AppUtil.checkArgument;
 
+import tutman.tuiniverse.commons.util.Interner;
+import tutman.tuiniverse.model.payment.Money;
+
 /**
  * Represents the hourly rate in $ of a Lesson.
+ * The rate is held as a whole number of cents per hour, see {@link Money}.
  * Guarantees: immutable; is valid as declared in {@link #isValidRate(String)}
+ * <p>
+ * Most lessons share a handful of rates, so {@link #of(String)} returns one shared instance per rate.
  */
 public class Rate {
 
     public static final String MESSAGE_CONSTRAINTS = "Rates must be a positive number!";
-    private final float rate;
+    private static final Interner<Rate> INTERNER = new Interner<>();
+
+    private final long centsPerHour;
 
     /**
      * Constructs a {@code Rate}.
@@ -17,27 +25,34 @@ public class Rate {
      */
     public Rate(String str) {
         checkArgument(isValidRate(str), MESSAGE_CONSTRAINTS);
-        float rate = Float.parseFloat(str);
-        this.rate = rate;
+        this.centsPerHour = Money.parseCents(str);
     }
 
     /**
-     * Returns the rate as a float
+     * Returns the shared {@code Rate} equal to {@code new Rate(str)}.
+     * @param str A valid rate.
      */
-    public float getRate() {
-        return this.rate;
+    public static Rate of(String str) {
+        return INTERNER.intern(new Rate(str));
     }
 
     /**
-     * Checks if the given float is a valid rate.
+     * Returns the rate in cents per hour.
+     */
+    public long getCentsPerHour() {
+        return this.centsPerHour;
+    }
+
+    /**
+     * Checks if the given string is a valid rate.
      */
     public static boolean isValidRate(String str) {
         if (str == null || str.isEmpty()) {
             return false;
         }
         try {
-            float rate = Float.parseFloat(str);
-            return (rate >= 0);
+            long centsPerHour = Money.parseCents(str);
+            return (centsPerHour >= 0);
         } catch (NumberFormatException e) {
             return false;
         }
@@ -45,6 +60,26 @@ public class Rate {
 
     @Override
     public String toString() {
-        return String.format("%.2f", rate);
+        return Money.format(centsPerHour);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof Rate)) {
+            return false;
+        }
+
+        Rate otherRate = (Rate) other;
+        return centsPerHour == otherRate.centsPerHour;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(centsPerHour);
     }
 }
@@ -3,8 +3,12 @@ package tutman.tuiniverse.model.lesson;
 import static java.util.Objects.requireNonNull;
 import static tutman.tuiniverse.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.DayOfWeek;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +23,9 @@ import tutman.tuiniverse.model.student.Student;
  * unique in terms of identity in the UniqueLessonList. However, the removal of a lesson uses Lesson#equals(object) so
  * as to ensure that the lesson with exactly the same fields will be removed.
  *
+ * Membership checks are answered from a hash set of {@link LessonKey}s over the fields compared by
+ * {@code Lesson#equals(Object)}, which is kept in sync with the backing list on every mutation.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Student#isSamePerson(Student)
@@ -28,50 +35,25 @@ public class UniqueLessonList implements Iterable<Lesson> {
     private final ObservableList<Lesson> internalList = FXCollections.observableArrayList();
     private final ObservableList<Lesson> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final LessonSchedule schedule = new LessonSchedule(true);
+    private final Set<LessonKey> keys = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent lesson as the given argument.
      */
     public boolean contains(Lesson toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return keys.contains(LessonKey.of(toCheck));
     }
 
-    /**
-     * Checks if the specified lesson has time clashes with any lessons in this unique lesson list.
-     *
-     * <p>Iterates through all lessons starting from index 1 up to the size of the list,
-     * and compares each lesson with the given lesson for time clashes.</p>
-     *
-     * @param lesson the Lesson to check for existence in this list
-     * @return true if the lesson is found in the list; false otherwise or if an exception occurs
-     */
+    /** Returns true if {@code lesson} has a time clash with any lesson in this list. */
     public boolean hasTimeClash(Lesson lesson) {
-        for (Lesson lesson1 : internalList) {
-            if (lesson1.hasTimeClash(lesson)) {
-                return true;
-            }
-        }
-        return false;
+        return schedule.hasTimeClash(lesson);
     }
 
-    /**
-     * Checks if the specified lesson has time clashes with any lessons in the lesson list, excluding the target lesson.
-     *
-     * <p>Iterates through all lessons starting from index 1 up to the size of the list,
-     * and compares each lesson with the given lesson for time clashes, excluding the target lesson.</p>
-     *
-     * @param lesson the Lesson to check for time clashes in this list.
-     * @param target the Lesson to exclude from the time clash check.
-     * @return true if the lesson is found in the list; false otherwise or if an exception occurs
-     */
+    /** Returns true if {@code lesson} has a time clash with any lesson in this list other than {@code target}. */
     public boolean hasTimeClashExcludingTargetLesson(Lesson lesson, Lesson target) {
-        for (Lesson lesson1 : internalList) {
-            if (!lesson1.equals(target) && lesson1.hasTimeClash(lesson)) {
-                return true;
-            }
-        }
-        return false;
+        return schedule.hasTimeClashExcludingTargetLesson(lesson, target);
     }
 
     /**
@@ -83,6 +65,8 @@ public class UniqueLessonList implements Iterable<Lesson> {
         if (contains(toAdd) || hasTimeClash(toAdd)) {
             throw new DuplicateLessonException();
         }
+        keys.add(LessonKey.of(toAdd));
+        schedule.add(toAdd);
         internalList.add(toAdd);
     }
 
@@ -104,6 +88,9 @@ public class UniqueLessonList implements Iterable<Lesson> {
             throw new DuplicateLessonException();
         }
 
+        keys.remove(LessonKey.of(target));
+        keys.add(LessonKey.of(editedLesson));
+        schedule.replace(internalList.get(index), editedLesson);
         internalList.set(index, editedLesson);
     }
 
@@ -113,13 +100,23 @@ public class UniqueLessonList implements Iterable<Lesson> {
      */
     public void remove(Lesson toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new LessonNotFoundException();
         }
+        Lesson removed = internalList.remove(index);
+        keys.remove(LessonKey.of(removed));
+        schedule.remove(removed);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setLessons(UniqueLessonList replacement) {
         requireNonNull(replacement);
+        keys.clear();
+        keys.addAll(replacement.keys);
+        schedule.setAll(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -129,10 +126,16 @@ public class UniqueLessonList implements Iterable<Lesson> {
      */
     public void setLessons(List<Lesson> lessons) {
         requireAllNonNull(lessons);
-        if (!lessonsAreUnique(lessons)) {
-            throw new DuplicateLessonException();
+        Set<LessonKey> replacementKeys = new HashSet<>();
+        for (Lesson lesson : lessons) {
+            if (!replacementKeys.add(LessonKey.of(lesson))) {
+                throw new DuplicateLessonException();
+            }
         }
 
+        keys.clear();
+        keys.addAll(replacementKeys);
+        schedule.setAll(lessons);
         internalList.setAll(lessons);
     }
 
@@ -143,6 +146,14 @@ public class UniqueLessonList implements Iterable<Lesson> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the lessons on {@code day} as an unmodifiable {@code ObservableList}, sorted by start time.
+     * The list is kept up to date as lessons are added, edited and removed.
+     */
+    public ObservableList<Lesson> asUnmodifiableObservableList(DayOfWeek day) {
+        return schedule.getLessonsOn(day);
+    }
+
     @Override
     public Iterator<Lesson> iterator() {
         return internalList.iterator();
@@ -174,16 +185,41 @@ public class UniqueLessonList implements Iterable<Lesson> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Hash key over the fields compared by {@code Lesson#equals(Object)}: the day, lesson time, subject and level.
      */
-    private boolean lessonsAreUnique(List<Lesson> lessons) {
-        for (int i = 0; i < lessons.size() - 1; i++) {
-            for (int j = i + 1; j < lessons.size(); j++) {
-                if (lessons.get(i).equals(lessons.get(j))) {
-                    return false;
-                }
+    private static final class LessonKey {
+        private final int slotKey;
+        private final Subject subject;
+        private final Level level;
+
+        private LessonKey(int slotKey, Subject subject, Level level) {
+            this.slotKey = slotKey;
+            this.subject = subject;
+            this.level = level;
+        }
+
+        static LessonKey of(Lesson lesson) {
+            return new LessonKey(lesson.getSlotKey(), lesson.getSubject(), lesson.getLevel());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof LessonKey)) {
+                return false;
             }
+
+            LessonKey otherKey = (LessonKey) other;
+            return slotKey == otherKey.slotKey && subject == otherKey.subject && level == otherKey.level;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(slotKey, subject, level);
         }
-        return true;
     }
 }
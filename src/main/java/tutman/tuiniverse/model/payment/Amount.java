@@ -5,20 +5,29 @@ import static tutman.tuiniverse.commons.util.AppUtil.checkArgument;
 /**
  * Represents a monetary amount in $ represented by a payment.
  * Can represent two types of payments: TotalAmount and UnpaidAmount.
- * Guarantees: immutable; is valid as declared in {@link #isValidAmount(float)}
+ * The amount is held as a whole number of cents, see {@link Money}.
+ * Guarantees: immutable; is valid as declared in {@link #isValidAmount(long)}
  */
 public abstract class Amount implements Comparable<Amount> {
     public static final String MESSAGE_CONSTRAINTS = "Total amount must be positive";
 
-    protected final float amount;
+    protected final long cents;
 
     /**
      * Constructs a {@code Amount}.
-     * @param amt A valid amount.
+     * @param cents A valid amount in cents.
      */
-    public Amount(float amt) {
+    protected Amount(long cents) {
+        checkArgument(isValidAmount(cents), MESSAGE_CONSTRAINTS);
+        this.cents = cents;
+    }
+
+    /**
+     * Validates a dollar value and converts it to cents, rounding to the nearest cent.
+     */
+    protected static long toValidCents(float amt) {
         checkArgument(isValidAmount(amt), MESSAGE_CONSTRAINTS);
-        this.amount = amt;
+        return Money.toCents(amt);
     }
 
     /**
@@ -29,20 +38,34 @@ public abstract class Amount implements Comparable<Amount> {
     }
 
     /**
-     * Returns totalAmount as a float.
+     * Checks if the given number of cents is a valid amount.
+     */
+    public static boolean isValidAmount(long cents) {
+        return cents >= 0;
+    }
+
+    /**
+     * Returns the amount in cents.
+     */
+    public long getCents() {
+        return cents;
+    }
+
+    /**
+     * Returns the amount in dollars as a float, for display purposes only.
      */
     public float getAsFloat() {
-        return amount;
+        return Money.toDollars(cents);
     }
 
     @Override
     public int compareTo(Amount other) {
-        return Float.compare(this.amount, other.amount);
+        return Long.compare(this.cents, other.cents);
     }
 
     @Override
     public String toString() {
-        return String.format("%.2f", amount);
+        return Money.format(cents);
     }
 
     @Override
@@ -57,6 +80,11 @@ public abstract class Amount implements Comparable<Amount> {
         }
 
         Amount otherAmount = (Amount) other;
-        return amount == otherAmount.getAsFloat();
+        return cents == otherAmount.cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
     }
 }
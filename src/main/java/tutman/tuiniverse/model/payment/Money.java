@@ -0,0 +1,60 @@
+package tutman.tuiniverse.model.payment;
+
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Contains utility methods for working with monetary values held as a whole number of cents in a {@code long}.
+ * <p>
+ * All amounts in the model are kept in cents so that sums over many students and lessons are exact and do not
+ * box; dollar values only appear when parsing user input or stored data and when displaying an amount.
+ */
+public class Money {
+
+    public static final int CENTS_PER_DOLLAR = 100;
+
+    private static final int CENTS_SCALE = 2;
+
+    private Money() {}
+
+    /**
+     * Parses a dollar value such as {@code "12.5"} into cents, rounding half up to the nearest cent.
+     *
+     * @throws NumberFormatException if {@code dollars} is not a decimal number or does not fit in a {@code long}
+     *     number of cents.
+     */
+    public static long parseCents(String dollars) {
+        requireNonNull(dollars);
+        try {
+            return new BigDecimal(dollars.trim())
+                    .setScale(CENTS_SCALE, RoundingMode.HALF_UP)
+                    .unscaledValue()
+                    .longValueExact();
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("Amount out of range: " + dollars);
+        }
+    }
+
+    /**
+     * Converts a dollar value to cents, rounding to the nearest cent.
+     */
+    public static long toCents(float dollars) {
+        return Math.round((double) dollars * CENTS_PER_DOLLAR);
+    }
+
+    /**
+     * Converts {@code cents} to a dollar value, for display purposes only.
+     */
+    public static float toDollars(long cents) {
+        return (float) cents / CENTS_PER_DOLLAR;
+    }
+
+    /**
+     * Formats {@code cents} as a dollar value with exactly two decimal places, e.g. {@code "12.50"}.
+     */
+    public static String format(long cents) {
+        return BigDecimal.valueOf(cents, CENTS_SCALE).toPlainString();
+    }
+}
@@ -26,7 +26,7 @@ public class Payment {
         requireAllNonNull(yearMonth, totalAmount);
         this.totalAmount = totalAmount;
         this.yearMonth = yearMonth;
-        this.unpaidAmount = new UnpaidAmount(getTotalAmountFloat());
+        this.unpaidAmount = UnpaidAmount.ofCents(totalAmount.getCents());
     }
 
     /**
@@ -65,20 +65,20 @@ public class Payment {
         return this.totalAmount;
     }
 
-    public float getTotalAmountFloat() {
-        return this.totalAmount.getAsFloat();
+    public long getTotalAmountCents() {
+        return this.totalAmount.getCents();
     }
 
     public UnpaidAmount getUnpaidAmount() {
         return this.unpaidAmount;
     }
 
-    public float getUnpaidAmountFloat() {
-        return this.unpaidAmount.getAsFloat();
+    public long getUnpaidAmountCents() {
+        return this.unpaidAmount.getCents();
     }
 
-    public void setTotalAmount(float f) {
-        this.totalAmount = new TotalAmount(f);
+    public void setTotalAmount(TotalAmount totalAmount) {
+        this.totalAmount = totalAmount;
     }
 
     public boolean isPaid() {
@@ -88,13 +88,11 @@ public class Payment {
     /**
      * Updates the payment upon {@link PaymentList} listening for changes in student's LessonList.
      *
-     * @param newTotalAmount a float representing the new total amount calculated from lessonList.
+     * @param newTotalCents the new total amount in cents calculated from lessonList.
      */
-    public void updatePayment(float newTotalAmount) {
-        TotalAmount newTotal = new TotalAmount(newTotalAmount);
-        int cmp = newTotal.compareTo(this.totalAmount);
-
-        if (cmp != 0) {
+    public void updatePayment(long newTotalCents) {
+        if (newTotalCents != this.totalAmount.getCents()) {
+            TotalAmount newTotal = TotalAmount.ofCents(newTotalCents);
             // use the helper method inside TotalAmount
             this.unpaidAmount = this.totalAmount.calculateNewUnpaidAmount(
                     this.unpaidAmount, newTotal);
@@ -108,15 +106,15 @@ public class Payment {
      * If the payment is already marked as paid, this method has no effect.
      */
     public void markPaid() {
-        this.unpaidAmount = new UnpaidAmount(0);
+        this.unpaidAmount = UnpaidAmount.ofCents(0);
     }
 
     @Override
     public String toString() {
-        return String.format("Payment[Month=%s, Amount=%.2f, UnpaidAmount=%.2f, Paid=%s]",
+        return String.format("Payment[Month=%s, Amount=%s, UnpaidAmount=%s, Paid=%s]",
                 yearMonth,
-                totalAmount.getAsFloat(),
-                unpaidAmount.getAsFloat(),
+                totalAmount,
+                unpaidAmount,
                 isPaid() ? "Paid" : "Unpaid");
     }
 
@@ -4,7 +4,13 @@ import static java.util.Objects.requireNonNull;
 
 import java.time.YearMonth;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 import tutman.tuiniverse.model.payment.exceptions.PaymentException;
 import tutman.tuiniverse.model.util.DateTimeUtil;
@@ -13,10 +19,21 @@ import tutman.tuiniverse.model.util.DateTimeUtil;
  * Represents a list of payments.
  * A PaymentList represents the payments one student takes under one tutor.
  * It supports adding, retrieving, deleting, and printing payments.
+ * Payments are keyed and ordered by their {@code YearMonth}, with at most one payment per month.
+ * <p>
+ * The months with an unpaid payment and the total unpaid amount are kept up to date as each payment is added,
+ * replaced or changed, so the status, earliest unpaid month and amount owed are read without rescanning the
+ * payments. Payments held by a list should therefore only be changed through the list.
+ * <p>
+ * Payments are looked up by index from a list of the payments in month order, which is only rebuilt after a month
+ * is added or its payment replaced.
  */
 public class PaymentList {
-    private final ArrayList<Payment> payments;
+    private final NavigableMap<YearMonth, Payment> payments = new TreeMap<>();
+    private final NavigableSet<YearMonth> unpaidMonths = new TreeSet<>();
+    private long unpaidCents;
     private YearMonth earliestUnpaidYearmonth;
+    private List<Payment> paymentsByIndex; // null until needed again after the payments change
 
     private Status status;
 
@@ -24,10 +41,9 @@ public class PaymentList {
      * Constructs a new payment list by creating an empty array list.
      */
     public PaymentList() {
-        this.payments = new ArrayList<>();
-        payments.add(new Payment(DateTimeUtil.currentYearMonth(), new TotalAmount(0f)));
-        earliestUnpaidYearmonth = null;
-        setPaymentStatus(Status.PAID);
+        put(new Payment(DateTimeUtil.currentYearMonth(), TotalAmount.ofCents(0)));
+        updateStatus();
+        setEarliestUnpaidYearMonth();
     }
 
     /**
@@ -35,20 +51,22 @@ public class PaymentList {
      * Assumes added payment is unpaid.
      */
     public PaymentList(Payment payment) {
-        this.payments = new ArrayList<>();
-        this.payments.add(payment);
+        requireNonNull(payment);
+        put(payment);
 
         updateStatus();
         setEarliestUnpaidYearMonth();
     }
 
     /**
-     * Constructs a new payment list by adding an arraylist of payments.
+     * Constructs a new payment list by adding a collection of payments.
+     * If several payments share a month, the last one is kept.
      */
-    public PaymentList(ArrayList<Payment> payments) {
+    public PaymentList(Collection<Payment> payments) {
         requireNonNull(payments);
-        this.payments = new ArrayList<>(payments);
-        sortByYearMonth();
+        for (Payment payment : payments) {
+            put(payment);
+        }
 
         updateStatus();
         setEarliestUnpaidYearMonth();
@@ -74,11 +92,17 @@ public class PaymentList {
         if (idx < 0 || idx >= payments.size()) {
             throw new PaymentException("No such payment: " + indexOneBased);
         }
-        return payments.get(idx);
+        if (paymentsByIndex == null) {
+            paymentsByIndex = new ArrayList<>(payments.values());
+        }
+        return paymentsByIndex.get(idx);
     }
 
-    public ArrayList<Payment> getPayments() {
-        return this.payments;
+    /**
+     * Returns an unmodifiable view of the payments, ordered by month.
+     */
+    public Collection<Payment> getPayments() {
+        return Collections.unmodifiableCollection(payments.values());
     }
 
     public Status getStatus() {
@@ -99,13 +123,11 @@ public class PaymentList {
     public Payment getPaymentByMonth(YearMonth month) throws PaymentException {
         requireNonNull(month, "Month must not be null.");
 
-        for (Payment p : payments) {
-            if (month.equals(p.getYearMonth())) {
-                return p;
-            }
+        Payment p = payments.get(month);
+        if (p == null) {
+            throw new PaymentException("No payment found for " + month);
         }
-
-        throw new PaymentException("No payment found for " + month);
+        return p;
     }
 
     /**
@@ -113,35 +135,28 @@ public class PaymentList {
      */
     public int indexOfMonth(YearMonth month) {
         requireNonNull(month, "Month must not be null.");
-        for (int i = 0; i < payments.size(); i++) {
-            if (month.equals(payments.get(i).getYearMonth())) {
-                return i;
-            }
+        if (!payments.containsKey(month)) {
+            return -1;
         }
-        return -1;
+        return payments.headMap(month, false).size();
     }
 
     /**
      * Returns true if there exists a payment for the given YearMonth.
      */
     public boolean containsMonth(YearMonth month) {
-        return indexOfMonth(month) >= 0;
+        requireNonNull(month, "Month must not be null.");
+        return payments.containsKey(month);
     }
 
     /**
      * Adds a new payment to the payment list.
+     * A payment already stored for the same month is replaced.
      */
     public void addPayment(Payment payment) {
         requireNonNull(payment);
-        payments.add(payment);
+        put(payment);
 
-        if (status == Status.PAID && !payment.isPaid()) {
-            setPaymentStatus(Status.UNPAID);
-            setEarliestUnpaidYearmonth(payment.getYearMonth());
-        } else if (status == Status.UNPAID && !payment.isPaid()) {
-            setPaymentStatus(Status.OVERDUE);
-        }
-        sortByYearMonth();
         updateStatus();
         setEarliestUnpaidYearMonth();
     }
@@ -154,11 +169,11 @@ public class PaymentList {
      */
     public boolean addPaymentIfAbsent(Payment payment) {
         requireNonNull(payment);
-        if (containsMonth(payment.getYearMonth())) {
+        if (payments.putIfAbsent(payment.getYearMonth(), payment) != null) {
             return false;
         }
-        payments.add(payment);
-        sortByYearMonth();
+        paymentsByIndex = null;
+        track(payment);
         updateStatus();
         setEarliestUnpaidYearMonth();
         return true;
@@ -172,30 +187,37 @@ public class PaymentList {
      */
     public Payment putPaymentForMonth(Payment payment) {
         requireNonNull(payment);
-        YearMonth month = payment.getYearMonth();
-        int idx = indexOfMonth(month);
-        Payment replaced = null;
-        if (idx >= 0) {
-            replaced = payments.set(idx, payment);
-        } else {
-            payments.add(payment);
-        }
-        sortByYearMonth();
+        Payment replaced = put(payment);
         updateStatus();
         setEarliestUnpaidYearMonth();
         return replaced;
     }
 
+    /**
+     * Replaces the contents of this payment list with copies of the payments in {@code replacement},
+     * so that later changes to either list do not affect the other.
+     */
+    public void setPayments(PaymentList replacement) {
+        requireNonNull(replacement);
+        payments.clear();
+        paymentsByIndex = null;
+        unpaidMonths.clear();
+        unpaidCents = 0;
+        for (Payment payment : replacement.payments.values()) {
+            put(new Payment(payment));
+        }
+        updateStatus();
+        setEarliestUnpaidYearMonth();
+    }
+
     /**
      * Find unpaid payments in a payment list.
      * @return ArrayList<Payment> of unpaid payments</Payment>.
      */
     public ArrayList<Payment> findUnpaids() {
         ArrayList<Payment> unpaidList = new ArrayList<>();
-        for (Payment p : payments) {
-            if (!p.isPaid()) {
-                unpaidList.add(p);
-            }
+        for (YearMonth month : unpaidMonths) {
+            unpaidList.add(payments.get(month));
         }
 
         return unpaidList;
@@ -207,33 +229,25 @@ public class PaymentList {
      * @return an UnpaidAmount representing the amount of money.
      */
     public UnpaidAmount calculateUnpaidAmount() {
-        float total = 0;
-        ArrayList<Payment> unpaidList = findUnpaids();
-        for (Payment p : unpaidList) {
-            total += p.getUnpaidAmountFloat();
-        }
-        return new UnpaidAmount(total);
+        return UnpaidAmount.ofCents(calculateUnpaidCents());
     }
 
     /**
-     * Calculates the amount of money in $ a student still owes a tutor.
+     * Calculates the amount of money a student still owes a tutor, in cents.
      *
-     * @return a float representing the amount of money.
+     * @return the sum of the unpaid amounts of all payments, in cents.
      */
-    public float calculateUnpaidAmountFloat() {
-        return payments.stream()
-                .map(Payment::getUnpaidAmountFloat)
-                .reduce(0f, Float::sum);
+    public long calculateUnpaidCents() {
+        return unpaidCents;
     }
 
     /**
-     * Updates payment status according to the size of unpaid list.
+     * Updates payment status according to the number of unpaid months.
      */
     private void updateStatus() {
-        ArrayList<Payment> unpaidList = findUnpaids();
-        if (unpaidList.isEmpty()) {
+        if (unpaidMonths.isEmpty()) {
             setPaymentStatus(Status.PAID);
-        } else if (unpaidList.size() == 1) {
+        } else if (unpaidMonths.size() == 1) {
             setPaymentStatus(Status.UNPAID);
         } else {
             setPaymentStatus(Status.OVERDUE);
@@ -245,16 +259,7 @@ public class PaymentList {
      * Manual method.
      */
     public YearMonth findEarliestUnpaidYearMonth() {
-        YearMonth earliest = null;
-        for (Payment p : payments) {
-            if (!p.isPaid()) {
-                YearMonth ym = p.getYearMonth();
-                if (earliest == null || ym.isBefore(earliest)) {
-                    earliest = ym;
-                }
-            }
-        }
-        return earliest;
+        return unpaidMonths.isEmpty() ? null : unpaidMonths.first();
     }
 
     /**
@@ -268,14 +273,16 @@ public class PaymentList {
      * Updates existing payment corresponding to yearmonth with new totalAmount.
      *
      * @param month the YearMonth corresponding to payment.
-     * @param totalAmount float representing the new total amount.
+     * @param totalCents the new total amount in cents.
      * @throws PaymentException
      */
-    public void updateExistingPayment(YearMonth month, float totalAmount) throws PaymentException {
+    public void updateExistingPayment(YearMonth month, long totalCents) throws PaymentException {
         try {
             Payment p = getPaymentByMonth(month);
 
-            p.updatePayment(totalAmount);
+            untrack(p);
+            p.updatePayment(totalCents);
+            track(p);
 
             // reset status
             updateStatus();
@@ -290,14 +297,15 @@ public class PaymentList {
      * list of unpaid payments and marking them as paid.
      */
     public void markAllPaid() throws PaymentException {
-        ArrayList<Payment> unpaidList = findUnpaids();
-        if (unpaidList.isEmpty()) {
+        if (unpaidMonths.isEmpty()) {
             throw new PaymentException("All lessons paid for already.");
         }
 
-        for (Payment p : unpaidList) {
-            p.markPaid();
+        for (YearMonth month : unpaidMonths) {
+            payments.get(month).markPaid();
         }
+        unpaidMonths.clear();
+        unpaidCents = 0;
 
         setPaymentStatus(Status.PAID);
         setEarliestUnpaidYearmonth(null);
@@ -313,14 +321,42 @@ public class PaymentList {
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < payments.size(); i++) {
-            sb.append(i + 1).append(". ").append(payments.get(i)).append("\n");
+        int i = 0;
+        for (Payment p : payments.values()) {
+            sb.append(++i).append(". ").append(p).append("\n");
         }
         return sb.toString();
     }
 
-    private void sortByYearMonth() {
-        payments.sort(Comparator.comparing(Payment::getYearMonth));
+    /**
+     * Stores {@code payment} under its month, replacing and returning any payment already stored for that month.
+     */
+    private Payment put(Payment payment) {
+        Payment replaced = payments.put(payment.getYearMonth(), payment);
+        paymentsByIndex = null;
+        if (replaced != null) {
+            untrack(replaced);
+        }
+        track(payment);
+        return replaced;
+    }
+
+    /**
+     * Counts {@code payment} towards the unpaid months and unpaid total.
+     */
+    private void track(Payment payment) {
+        if (!payment.isPaid()) {
+            unpaidMonths.add(payment.getYearMonth());
+        }
+        unpaidCents += payment.getUnpaidAmountCents();
+    }
+
+    /**
+     * Reverses {@link #track(Payment)} for a payment that is about to change or be removed.
+     */
+    private void untrack(Payment payment) {
+        unpaidMonths.remove(payment.getYearMonth());
+        unpaidCents -= payment.getUnpaidAmountCents();
     }
 
     private void setPaymentStatus(Status status) {
@@ -337,7 +373,7 @@ public class PaymentList {
      */
     public PaymentList copy() {
         ArrayList<Payment> copiedPayments = new ArrayList<>();
-        for (Payment p : payments) {
+        for (Payment p : payments.values()) {
             copiedPayments.add(new Payment(p));
         }
         return new PaymentList(copiedPayments);
@@ -6,11 +6,22 @@ package tutman.tuiniverse.model.payment;
 public class TotalAmount extends Amount {
 
     /**
-     * Constructs a {@code TotalAmount}.
+     * Constructs a {@code TotalAmount} from a dollar value, rounded to the nearest cent.
      * @param amt A valid totalAmount.
      */
     public TotalAmount(float amt) {
-        super(amt);
+        super(toValidCents(amt));
+    }
+
+    private TotalAmount(long cents) {
+        super(cents);
+    }
+
+    /**
+     * Returns a {@code TotalAmount} of {@code cents}.
+     */
+    public static TotalAmount ofCents(long cents) {
+        return new TotalAmount(cents);
     }
 
     /**
@@ -24,9 +35,8 @@ public class TotalAmount extends Amount {
      * @return a new {@code TotalAmount} instance representing the updated unpaid amount.
      */
     public UnpaidAmount calculateNewUnpaidAmount(UnpaidAmount unpaidAmount, TotalAmount newTotalAmount) {
-        float calculatedUnpaid = unpaidAmount.getAsFloat() + newTotalAmount.getAsFloat() - getAsFloat();
-        float newUnpaid = Math.max(calculatedUnpaid, 0);
-        return new UnpaidAmount(newUnpaid);
+        long calculatedUnpaid = unpaidAmount.getCents() + newTotalAmount.getCents() - getCents();
+        return UnpaidAmount.ofCents(Math.max(calculatedUnpaid, 0));
     }
 
     @Override
@@ -41,6 +51,11 @@ public class TotalAmount extends Amount {
         }
 
         TotalAmount otherTotalAmount = (TotalAmount) other;
-        return amount == otherTotalAmount.getAsFloat();
+        return cents == otherTotalAmount.cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
     }
 }
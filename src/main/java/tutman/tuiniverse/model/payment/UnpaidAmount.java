@@ -5,8 +5,23 @@ package tutman.tuiniverse.model.payment;
  */
 public class UnpaidAmount extends Amount {
 
+    /**
+     * Constructs an {@code UnpaidAmount} from a dollar value, rounded to the nearest cent.
+     * @param amt A valid unpaid amount.
+     */
     public UnpaidAmount(float amt) {
-        super(amt);
+        super(toValidCents(amt));
+    }
+
+    private UnpaidAmount(long cents) {
+        super(cents);
+    }
+
+    /**
+     * Returns an {@code UnpaidAmount} of {@code cents}.
+     */
+    public static UnpaidAmount ofCents(long cents) {
+        return new UnpaidAmount(cents);
     }
 
     /**
@@ -16,7 +31,7 @@ public class UnpaidAmount extends Amount {
      * @return a boolean on whether the amount is 0.
      */
     public boolean isZero() {
-        return this.amount == 0;
+        return this.cents == 0;
     }
 
     @Override
@@ -31,6 +46,11 @@ public class UnpaidAmount extends Amount {
         }
 
         UnpaidAmount otherUnpaidAmount = (UnpaidAmount) other;
-        return amount == otherUnpaidAmount.getAsFloat();
+        return cents == otherUnpaidAmount.cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
     }
 }
@@ -3,9 +3,13 @@ package tutman.tuiniverse.model.student;
 import static java.util.Objects.requireNonNull;
 import static tutman.tuiniverse.commons.util.AppUtil.checkArgument;
 
+import tutman.tuiniverse.commons.util.Interner;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
+ * <p>
+ * Students and their lessons hold the same address, so {@link #of(String)} returns one shared instance per address.
  */
 public class Address {
 
@@ -18,6 +22,8 @@ public class Address {
      */
     public static final String VALIDATION_REGEX = "^(?!.*(?:r/|s/|l/|st/|et/|d/))\\S.*$";
 
+    private static final Interner<Address> INTERNER = new Interner<>();
+
 
     public final String value;
 
@@ -32,6 +38,15 @@ public class Address {
         value = address;
     }
 
+    /**
+     * Returns the shared {@code Address} equal to {@code new Address(address)}.
+     *
+     * @param address A valid address.
+     */
+    public static Address of(String address) {
+        return INTERNER.intern(new Address(address));
+    }
+
     /**
      * Returns true if a given string is a valid email.
      */
@@ -1,9 +1,10 @@
 package tutman.tuiniverse.model.student;
 
+import static tutman.tuiniverse.commons.util.AppUtil.checkArgument;
+
 import java.util.List;
 import java.util.function.Predicate;
 
-import tutman.tuiniverse.commons.util.StringUtil;
 import tutman.tuiniverse.commons.util.ToStringBuilder;
 
 /**
@@ -11,25 +12,36 @@ import tutman.tuiniverse.commons.util.ToStringBuilder;
  */
 public class NameContainsKeywordsPredicate implements Predicate<Student> {
     private final List<String> keywords;
+    private final String[] normalizedKeywords;
 
+    /**
+     * Creates a predicate matching students whose details contain any of {@code keywords}.
+     * Each keyword must be a single, non-empty word.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.normalizedKeywords = new String[keywords.size()];
+        for (int i = 0; i < normalizedKeywords.length; i++) {
+            String normalizedKeyword = SearchKey.normalize(keywords.get(i));
+            checkArgument(!normalizedKeyword.isEmpty(), "Word parameter cannot be empty");
+            checkArgument(normalizedKeyword.split("\\s+").length == 1, "Word parameter should be a single word");
+            normalizedKeywords[i] = normalizedKeyword;
+        }
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Student person) {
-        if (person instanceof Student) {
-            Student tempStudent = (Student) person;
-            return keywords.stream().anyMatch(keyword ->
-                    StringUtil.containsWordIgnoreCase(tempStudent.getName().fullName, keyword)
-                    || StringUtil.containsWordIgnoreCase(tempStudent.getEmail().toString(), keyword)
-                    || StringUtil.containsWordIgnoreCase(tempStudent.getPhone().toString(), keyword)
-                    || StringUtil.containsWordIgnoreCase(tempStudent.getAddress().toString(), keyword));
+        SearchKey searchKey = person.getSearchKey();
+        for (String normalizedKeyword : normalizedKeywords) {
+            if (searchKey.matches(normalizedKeyword)) {
+                return true;
+            }
         }
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword)
-                        || StringUtil.containsWordIgnoreCase(person.getEmail().toString(), keyword)
-                        || StringUtil.containsWordIgnoreCase(person.getPhone().toString(), keyword));
+        return false;
     }
 
     @Override
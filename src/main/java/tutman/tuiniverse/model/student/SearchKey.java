@@ -0,0 +1,99 @@
+package tutman.tuiniverse.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The normalized words of a student's name, email, phone and address, searched by the {@code find} command.
+ * Guarantees: immutable; words are lower-cased, non-empty and contain no whitespace.
+ * <p>
+ * The words are split and lower-cased once when the key is created, so matching a keyword does no string work
+ * other than comparing characters, and allocates nothing.
+ */
+public final class SearchKey {
+
+    private final String[] words;
+
+    /**
+     * Creates the search key of a student with the given details.
+     */
+    public SearchKey(Name name, Email email, Phone phone, Address address) {
+        requireNonNull(name);
+        requireNonNull(email);
+        requireNonNull(phone);
+        requireNonNull(address);
+
+        List<String> allWords = new ArrayList<>();
+        addWords(allWords, name.fullName);
+        addWords(allWords, email.toString());
+        addWords(allWords, phone.toString());
+        addWords(allWords, address.toString());
+        words = allWords.toArray(new String[0]);
+    }
+
+    /**
+     * Returns {@code keyword} in the form expected by {@link #matches(String)}.
+     */
+    public static String normalize(String keyword) {
+        requireNonNull(keyword);
+        return keyword.trim().toLowerCase();
+    }
+
+    /**
+     * Returns true if any word of this key contains {@code normalizedKeyword}.
+     *
+     * @param normalizedKeyword a keyword already passed through {@link #normalize(String)}.
+     */
+    public boolean matches(String normalizedKeyword) {
+        for (String word : words) {
+            if (word.contains(normalizedKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns an unmodifiable view of the words of this key.
+     */
+    public List<String> getWords() {
+        return Collections.unmodifiableList(Arrays.asList(words));
+    }
+
+    private static void addWords(List<String> words, String field) {
+        for (String word : field.toLowerCase().split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchKey)) {
+            return false;
+        }
+
+        SearchKey otherKey = (SearchKey) other;
+        return Arrays.equals(words, otherKey.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return String.join(" ", words);
+    }
+}
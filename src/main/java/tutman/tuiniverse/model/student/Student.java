@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static tutman.tuiniverse.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.YearMonth;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
@@ -38,9 +39,18 @@ public class Student {
     private final Set<Tag> tags = new HashSet<>();
     private final LessonList lessons;
     private final PaymentList payments;
+    private final SearchKey searchKey;
 
     private PaymentStatus paymentStatus;
-    private boolean isAutoRefreshEnabled = true;
+
+    // Changes to the lessons not yet applied to the payments
+    private YearMonth pendingPaymentMonth;
+    private long pendingPaymentDeltaCents;
+    private boolean isFullPaymentRefreshPending;
+
+    // The month total last computed from the lessons, which later deltas are applied to
+    private YearMonth syncedPaymentMonth;
+    private long syncedTotalCents;
 
     /**
      * Every field must be present and not null.
@@ -54,6 +64,7 @@ public class Student {
         this.tags.addAll(tags);
         this.lessons = new LessonList();
         this.payments = new PaymentList();
+        this.searchKey = new SearchKey(name, email, phone, address);
         this.paymentStatus = PaymentStatus.PAID;
         wireLessonListeners();
     }
@@ -70,6 +81,7 @@ public class Student {
         this.tags.addAll(tags);
         this.lessons = new LessonList(ll.getLessons());
         this.payments = pl;
+        this.searchKey = new SearchKey(name, email, phone, address);
         this.paymentStatus = mapStatus(getPaymentListStatus());
         wireLessonListeners();
     }
@@ -78,6 +90,10 @@ public class Student {
         return name;
     }
 
+    public SearchKey getSearchKey() {
+        return searchKey;
+    }
+
     public Phone getPhone() {
         return phone;
     }
@@ -142,12 +158,11 @@ public class Student {
     }
 
     public TotalAmount getTotalAmount() {
-        float f = lessons.getTotalAmountEarned(DateTimeUtil.currentYearMonth());
-        return new TotalAmount(f);
+        return TotalAmount.ofCents(getTotalAmountCents());
     }
 
-    public float getTotalAmountFloat() {
-        return lessons.getTotalAmountEarned(DateTimeUtil.currentYearMonth());
+    public long getTotalAmountCents() {
+        return lessons.getTotalCentsEarned(DateTimeUtil.currentYearMonth());
     }
 
     /**
@@ -156,21 +171,20 @@ public class Student {
      * @return a UnpaidAmount object with amount equivalent to the total of unpaid payments.
      */
     public UnpaidAmount getAmountDue() {
-        return payments.calculateUnpaidAmount();
+        return getPayments().calculateUnpaidAmount();
     }
 
     /**
-     * Returns the total amount unpaid by the student as a float.
+     * Returns the total amount unpaid by the student in cents.
      *
-     * @return a UnpaidAmount object with amount equivalent to the total of unpaid payments.
+     * @return the total of unpaid payments, in cents.
      */
-    public float getAmountDueFloat() {
-        return payments.calculateUnpaidAmountFloat();
+    public long getAmountDueCents() {
+        return getPayments().calculateUnpaidCents();
     }
 
     public TotalAmount getTotalAmountByMonth(YearMonth yearMonth) {
-        float f = lessons.getTotalAmountEarned(yearMonth);
-        return new TotalAmount(f);
+        return TotalAmount.ofCents(lessons.getTotalCentsEarned(yearMonth));
     }
 
     /**
@@ -193,10 +207,88 @@ public class Student {
      * @throws PaymentException
      */
     public void pay() throws PaymentException {
-        payments.markAllPaid();
+        getPayments().markAllPaid();
         setPaymentStatus(PaymentStatus.PAID);
     }
 
+    /**
+     * Returns a copy of the lessons, payments and payment status of this student.
+     */
+    public StudentState saveState() {
+        refreshPayments();
+        return new StudentState(lessons.getLessons(), payments, paymentStatus);
+    }
+
+    /**
+     * Replaces the lessons, payments and payment status of this student with those in {@code state},
+     * and links the restored lessons back to this student.
+     */
+    public void restoreState(StudentState state) {
+        requireNonNull(state);
+        lessons.setLessons(state.getLessons());
+        payments.setPayments(state.getPayments());
+        setPaymentStatus(state.getPaymentStatus());
+        // the restored payments already match the restored lessons
+        discardPendingPaymentRefresh();
+        syncedPaymentMonth = null;
+        for (Lesson lesson : state.getLessons()) {
+            lesson.addStudent(this);
+        }
+    }
+
+    /**
+     * Adds {@code adopted} to the lessons of this student and links them to this student, without changing the
+     * payments. Used when the payments already account for these lessons, such as when they are loaded from storage
+     * or carried over from an edited student.
+     */
+    public void adoptLessons(Collection<Lesson> adopted) {
+        requireNonNull(adopted);
+        refreshPayments();
+        for (Lesson lesson : adopted) {
+            lesson.addStudent(this);
+            lessons.addLesson(lesson);
+        }
+        discardPendingPaymentRefresh();
+        syncedPaymentMonth = null;
+    }
+
+    /**
+     * Applies the changes to the lessons since the last refresh to the current month's payment, and syncs the
+     * payment status. Called once after each change to the lessons, so that reading the payments or the status never
+     * changes them.
+     * <p>
+     * The change is applied as a delta to the month's total while the total is still the one last computed from the
+     * lessons. Otherwise, such as for loaded or rolled over payments, or if the month has since changed, the total is
+     * recomputed from all the lessons. Does nothing if there is no payment for the current month yet.
+     *
+     * @throws PaymentStatusUpdateException if the payment could not be updated.
+     */
+    public void refreshPayments() throws PaymentStatusUpdateException {
+        if (pendingPaymentMonth == null) {
+            return;
+        }
+        YearMonth ym = DateTimeUtil.currentYearMonth();
+        boolean canApplyDelta = !isFullPaymentRefreshPending && pendingPaymentMonth.equals(ym);
+        long deltaCents = pendingPaymentDeltaCents;
+        discardPendingPaymentRefresh();
+        if (!payments.containsMonth(ym)) {
+            return;
+        }
+        try {
+            long storedTotal = payments.getPaymentByMonth(ym).getTotalAmountCents();
+            boolean isTotalSynced = ym.equals(syncedPaymentMonth) && storedTotal == syncedTotalCents;
+            long newTotal = canApplyDelta && isTotalSynced
+                    ? storedTotal + deltaCents
+                    : lessons.getTotalCentsEarned(ym);
+            payments.updateExistingPayment(ym, newTotal);
+            syncedPaymentMonth = ym;
+            syncedTotalCents = newTotal;
+            setPaymentStatus(mapStatus(payments.getStatus()));
+        } catch (PaymentException e) {
+            throw new PaymentStatusUpdateException();
+        }
+    }
+
     public PaymentStatus mapStatus(Status status) {
         return StatusMapper.toPaymentStatus(status);
     }
@@ -285,53 +377,36 @@ public class Student {
      */
 
     private void wireLessonListeners() {
-        // Recompute whenever lessons change (add/remove/edit).
-        this.lessons.addListener(change -> {
-            if (!isAutoRefreshEnabled) {
-                return;
-            }
-            while (change.next()) {
-                if (hasStructuralChange(change)) {
-                    refreshCurrentMonthPayment();
-                    break;
-                }
-            }
-        });
-    }
-
-    private boolean hasStructuralChange(ListChangeListener.Change<?> change) {
-        return change.wasAdded() || change.wasRemoved() || change.wasUpdated() || change.wasReplaced();
-    }
-
-    /**
-     * Recomputes the current month’s total from lessons and syncs PaymentList + Student status.
-     **/
-    private void refreshCurrentMonthPayment() throws PaymentStatusUpdateException {
-        try {
-            YearMonth ym = DateTimeUtil.currentYearMonth();
-            float newTotal = lessons.getTotalAmountEarned(ym);
-            payments.updateExistingPayment(ym, newTotal);
-
-            System.out.println("New payment updated: new total: " + newTotal);
-
-            setPaymentStatus(mapStatus(getPaymentListStatus()));
-        } catch (PaymentException e) {
-            throw new PaymentStatusUpdateException();
-        }
+        // Only note the change here; the payment is refreshed once per change, by refreshPayments.
+        this.lessons.addListener(this::recordLessonChange);
     }
 
     /**
-     * Disables automatic payment refreshes triggered by changes in the {@code LessonList}.
+     * Adds the earnings of the lessons added in {@code change}, less those of the lessons removed, to the pending
+     * change to the current month's payment.
      */
-    public void disableAutoPaymentRefresh() {
-        this.isAutoRefreshEnabled = false;
+    private void recordLessonChange(ListChangeListener.Change<? extends Lesson> change) {
+        YearMonth month = DateTimeUtil.currentYearMonth();
+        if (pendingPaymentMonth != null && !pendingPaymentMonth.equals(month)) {
+            isFullPaymentRefreshPending = true;
+        }
+        pendingPaymentMonth = month;
+        while (change.next()) {
+            if (change.wasUpdated()) {
+                isFullPaymentRefreshPending = true;
+            }
+            for (Lesson removed : change.getRemoved()) {
+                pendingPaymentDeltaCents -= removed.getAmountEarnedCents(month);
+            }
+            for (Lesson added : change.getAddedSubList()) {
+                pendingPaymentDeltaCents += added.getAmountEarnedCents(month);
+            }
+        }
     }
 
-    /**
-     * Re-enables automatic payment refreshes triggered by changes in the {@code LessonList}.
-     */
-    public void enableAutoPaymentRefresh() {
-        this.isAutoRefreshEnabled = true;
+    private void discardPendingPaymentRefresh() {
+        pendingPaymentMonth = null;
+        pendingPaymentDeltaCents = 0;
+        isFullPaymentRefreshPending = false;
     }
 }
-
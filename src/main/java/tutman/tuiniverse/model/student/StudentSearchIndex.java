@@ -0,0 +1,131 @@
+package tutman.tuiniverse.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index over the name, email, phone and address of students, answering the same keyword queries as
+ * {@link NameContainsKeywordsPredicate} without testing every student.
+ * <p>
+ * Every word of a student's {@link SearchKey} is broken into all its substrings of up to
+ * {@value #GRAM_LENGTH} characters, and each such gram maps to the students having it. A keyword no longer than a gram
+ * is answered by its own posting list. A longer keyword can only match the students in the posting lists of all its
+ * grams, so the students in the shortest of those lists are checked against their words.
+ * <p>
+ * Students are indexed by identity, so an edited student must be removed and its replacement added.
+ */
+public class StudentSearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Student>> postings = new HashMap<>();
+    private final Map<Student, SearchKey> keysByStudent = new IdentityHashMap<>();
+
+    /**
+     * Adds {@code student} to the index.
+     */
+    public void add(Student student) {
+        requireNonNull(student);
+        SearchKey searchKey = student.getSearchKey();
+        keysByStudent.put(student, searchKey);
+        for (String gram : gramsOf(searchKey)) {
+            postings.computeIfAbsent(gram, unused -> newStudentSet()).add(student);
+        }
+    }
+
+    /**
+     * Removes {@code student} from the index. Does nothing if it was not added.
+     */
+    public void remove(Student student) {
+        requireNonNull(student);
+        SearchKey searchKey = keysByStudent.remove(student);
+        if (searchKey == null) {
+            return;
+        }
+        for (String gram : gramsOf(searchKey)) {
+            Set<Student> posting = postings.get(gram);
+            posting.remove(student);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code students}.
+     */
+    public void setAll(Collection<Student> students) {
+        requireNonNull(students);
+        postings.clear();
+        keysByStudent.clear();
+        for (Student student : students) {
+            add(student);
+        }
+    }
+
+    /**
+     * Returns the students matching any of {@code keywords}, as an identity set.
+     * A student matches a keyword if any word of its name, email, phone or address contains the keyword,
+     * ignoring case.
+     */
+    public Set<Student> search(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Student> matches = newStudentSet();
+        for (String keyword : keywords) {
+            String normalizedKeyword = SearchKey.normalize(keyword);
+            if (!normalizedKeyword.isEmpty()) {
+                matches.addAll(search(normalizedKeyword));
+            }
+        }
+        return matches;
+    }
+
+    private Set<Student> search(String keyword) {
+        if (keyword.length() <= GRAM_LENGTH) {
+            return postings.getOrDefault(keyword, Collections.emptySet());
+        }
+
+        Set<Student> candidates = null;
+        for (int i = 0; i + GRAM_LENGTH <= keyword.length(); i++) {
+            Set<Student> posting = postings.get(keyword.substring(i, i + GRAM_LENGTH));
+            if (posting == null) {
+                return Collections.emptySet();
+            }
+            if (candidates == null || posting.size() < candidates.size()) {
+                candidates = posting;
+            }
+        }
+
+        Set<Student> matches = newStudentSet();
+        for (Student candidate : candidates) {
+            if (keysByStudent.get(candidate).matches(keyword)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    private static Set<String> gramsOf(SearchKey searchKey) {
+        Set<String> grams = new HashSet<>();
+        for (String word : searchKey.getWords()) {
+            for (int start = 0; start < word.length(); start++) {
+                int maxEnd = Math.min(word.length(), start + GRAM_LENGTH);
+                for (int end = start + 1; end <= maxEnd; end++) {
+                    grams.add(word.substring(start, end));
+                }
+            }
+        }
+        return grams;
+    }
+
+    private static Set<Student> newStudentSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -0,0 +1,46 @@
+package tutman.tuiniverse.model.student;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import tutman.tuiniverse.model.lesson.Lesson;
+import tutman.tuiniverse.model.payment.PaymentList;
+
+/**
+ * The parts of a {@link Student} that change in place: its lessons, its payments and its payment status.
+ * Guarantees: immutable; later changes to the student do not affect a state saved from it.
+ * <p>
+ * The identity fields of a student never change, so saving and restoring this state is enough to return a
+ * student to an earlier version, and only costs as much as that one student's lessons and payments.
+ *
+ * @see Student#saveState()
+ * @see Student#restoreState(StudentState)
+ */
+public final class StudentState {
+
+    private final List<Lesson> lessons;
+    private final PaymentList payments;
+    private final PaymentStatus paymentStatus;
+
+    StudentState(List<Lesson> lessons, PaymentList payments, PaymentStatus paymentStatus) {
+        requireNonNull(lessons);
+        requireNonNull(payments);
+        requireNonNull(paymentStatus);
+        this.lessons = List.copyOf(lessons);
+        this.payments = payments.copy();
+        this.paymentStatus = paymentStatus;
+    }
+
+    List<Lesson> getLessons() {
+        return lessons;
+    }
+
+    PaymentList getPayments() {
+        return payments;
+    }
+
+    PaymentStatus getPaymentStatus() {
+        return paymentStatus;
+    }
+}
@@ -3,13 +3,14 @@ package tutman.tuiniverse.model.student;
 import static java.util.Objects.requireNonNull;
 import static tutman.tuiniverse.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import tutman.tuiniverse.model.lesson.Lesson;
 import tutman.tuiniverse.model.student.exceptions.DuplicatePersonException;
 import tutman.tuiniverse.model.student.exceptions.PersonNotFoundException;
 
@@ -20,6 +21,9 @@ import tutman.tuiniverse.model.student.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity checks are answered from a hash index on the (email, phone) pair used by
+ * {@code Person#isSamePerson(Person)}, which is kept in sync with the backing list on every mutation.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Student#isSamePerson(Student)
@@ -29,13 +33,14 @@ public class UniquePersonList implements Iterable<Student> {
     private final ObservableList<Student> internalList = FXCollections.observableArrayList();
     private final ObservableList<Student> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<IdentityKey> identities = new HashSet<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identities.contains(IdentityKey.of(toCheck));
     }
 
     /**
@@ -47,9 +52,23 @@ public class UniquePersonList implements Iterable<Student> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        identities.add(IdentityKey.of(toAdd));
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts a person into the list at {@code index}, shifting later persons back by one.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Student toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        identities.add(IdentityKey.of(toAdd));
+        internalList.add(index, toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -67,15 +86,9 @@ public class UniquePersonList implements Iterable<Student> {
             throw new DuplicatePersonException();
         }
 
-        editedPerson.disableAutoPaymentRefresh();
-
-        ArrayList<Lesson> lessons = target.getLessonList().getLessons();
-        for (Lesson lesson : lessons) {
-            lesson.addStudent(editedPerson);
-            editedPerson.getLessonList().addLesson(lesson);
-        }
-
-        editedPerson.enableAutoPaymentRefresh();
+        editedPerson.adoptLessons(target.getLessonList().getLessons());
+        identities.remove(IdentityKey.of(target));
+        identities.add(IdentityKey.of(editedPerson));
         internalList.set(index, editedPerson);
     }
 
@@ -88,10 +101,16 @@ public class UniquePersonList implements Iterable<Student> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        identities.remove(IdentityKey.of(toRemove));
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        identities.clear();
+        identities.addAll(replacement.identities);
         internalList.setAll(replacement.internalList);
     }
 
@@ -101,10 +120,15 @@ public class UniquePersonList implements Iterable<Student> {
      */
     public void setPersons(List<Student> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Set<IdentityKey> replacementIdentities = new HashSet<>();
+        for (Student person : persons) {
+            if (!replacementIdentities.add(IdentityKey.of(person))) {
+                throw new DuplicatePersonException();
+            }
         }
 
+        identities.clear();
+        identities.addAll(replacementIdentities);
         internalList.setAll(persons);
     }
 
@@ -146,14 +170,39 @@ public class UniquePersonList implements Iterable<Student> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Hash key over the identity fields compared by {@code Student#isSamePerson(Student)}.
      */
-    private boolean personsAreUnique(List<Student> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                return !(persons.get(i).isSamePerson(persons.get(j)));
+    private static final class IdentityKey {
+        private final Email email;
+        private final Phone phone;
+
+        private IdentityKey(Email email, Phone phone) {
+            this.email = email;
+            this.phone = phone;
+        }
+
+        static IdentityKey of(Student person) {
+            return new IdentityKey(person.getEmail(), person.getPhone());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof IdentityKey)) {
+                return false;
             }
+
+            IdentityKey otherKey = (IdentityKey) other;
+            return email.equals(otherKey.email) && phone.equals(otherKey.phone);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(email, phone);
         }
-        return true;
     }
 }
@@ -3,14 +3,19 @@ package tutman.tuiniverse.model.student.tag;
 import static java.util.Objects.requireNonNull;
 import static tutman.tuiniverse.commons.util.AppUtil.checkArgument;
 
+import tutman.tuiniverse.commons.util.Interner;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ * <p>
+ * Many students share the same few tags, so {@link #of(String)} returns one shared instance per tag name.
  */
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
+    private static final Interner<Tag> INTERNER = new Interner<>();
 
     public final String tagName;
 
@@ -25,6 +30,15 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} named {@code tagName}.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return INTERNER.intern(new Tag(tagName));
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
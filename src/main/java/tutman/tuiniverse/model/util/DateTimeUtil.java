@@ -18,7 +18,7 @@ public class DateTimeUtil {
      */
     public static Day currentDay() {
         DayOfWeek today = LocalDate.now(ZoneId.systemDefault()).getDayOfWeek();
-        return new Day(today.toString());
+        return Day.of(today);
     }
 
     /**
@@ -39,18 +39,10 @@ public class DateTimeUtil {
 
     /**
      * Returns the number of occurrences of a given {@code DayOfWeek} in the specified {@code YearMonth}.
+     *
+     * @see MonthCalendar#countOccurrences(YearMonth, DayOfWeek)
      */
     public static int countDaysOfWeekInMonth(YearMonth month, Day day) {
-        LocalDate firstDay = month.atDay(1);
-        LocalDate lastDay = month.atEndOfMonth();
-
-        int count = 0;
-        for (LocalDate date = firstDay; !date.isAfter(lastDay); date = date.plusDays(1)) {
-            boolean isSameDayOfWeek = date.getDayOfWeek() == day.getDayOfWeek();
-            if (isSameDayOfWeek) {
-                count++;
-            }
-        }
-        return count;
+        return MonthCalendar.countOccurrences(month, day.getDayOfWeek());
     }
 }
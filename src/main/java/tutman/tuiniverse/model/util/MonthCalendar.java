@@ -0,0 +1,50 @@
+package tutman.tuiniverse.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers how many times each {@code DayOfWeek} occurs in a {@code YearMonth}.
+ * <p>
+ * Every month has four full weeks, so each day of the week occurs four times, plus once more for each of the
+ * first {@code lengthOfMonth - 28} days of the week counted from the weekday of the 1st. The seven counts of a
+ * month are computed with this arithmetic once and then cached, as earnings calculations ask for the same
+ * few months over and over.
+ */
+public class MonthCalendar {
+
+    private static final int DAYS_IN_WEEK = 7;
+    private static final int DAYS_IN_FOUR_WEEKS = 28;
+
+    private static final Map<YearMonth, int[]> occurrencesByMonth = new ConcurrentHashMap<>();
+
+    private MonthCalendar() {}
+
+    /**
+     * Returns the number of occurrences of {@code dayOfWeek} in {@code month}.
+     */
+    public static int countOccurrences(YearMonth month, DayOfWeek dayOfWeek) {
+        requireNonNull(month);
+        requireNonNull(dayOfWeek);
+        return occurrencesByMonth.computeIfAbsent(month, MonthCalendar::computeOccurrences)[dayOfWeek.ordinal()];
+    }
+
+    /**
+     * Returns the occurrences in {@code month} of every day of the week, indexed by {@link DayOfWeek#ordinal()}.
+     */
+    private static int[] computeOccurrences(YearMonth month) {
+        int firstDay = month.atDay(1).getDayOfWeek().ordinal();
+        int extraDays = month.lengthOfMonth() - DAYS_IN_FOUR_WEEKS;
+
+        int[] occurrences = new int[DAYS_IN_WEEK];
+        for (int day = 0; day < DAYS_IN_WEEK; day++) {
+            int offsetFromFirstDay = Math.floorMod(day - firstDay, DAYS_IN_WEEK);
+            occurrences[day] = offsetFromFirstDay < extraDays ? 5 : 4;
+        }
+        return occurrences;
+    }
+}
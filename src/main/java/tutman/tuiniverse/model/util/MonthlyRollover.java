@@ -3,7 +3,10 @@ package tutman.tuiniverse.model.util;
 import static java.util.Objects.requireNonNull;
 
 import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import tutman.tuiniverse.commons.core.LogsCenter;
 import tutman.tuiniverse.model.Model;
@@ -35,6 +38,7 @@ public class MonthlyRollover {
     /**
      * Checks how many months have elapsed since the app was last opened,
      * and performs a payment rollover for each elapsed month.
+     * All elapsed months of a student are rolled over together, so each student is updated at most once.
      *
      * @param lastOpened the {@code YearMonth} when the app was last opened
      * @param now the current {@code YearMonth}
@@ -53,106 +57,138 @@ public class MonthlyRollover {
             return; // No rollover needed
         }
 
-        for (int i = 0; i < monthsElapsed; i++) {
-            YearMonth yearMonth = lastOpened.plusMonths(i + 1);
-            rolloverForMonth(yearMonth);
-        }
+        // Snapshot the full backing list to avoid filters hiding persons
+        List<Student> students = List.copyOf(model.getAddressBook().getPersonList());
+
+        List<PaymentUpdate> updates = computeUpdates(students,
+                lastOpened.plusMonths(1), lastOpened.plusMonths(monthsElapsed));
+        applyUpdates(updates);
     }
 
     /**
-     * Applies rollover logic for a specific month.
+     * Computes the payment updates of every student in {@code students}, spreading the students across the
+     * common fork-join pool. Neither the model nor the students are modified.
      *
-     * @param yearMonth the {@code YearMonth} to perform rollover for
+     * @return the updates of the students whose payments changed, in the order of {@code students}.
      */
-    private void rolloverForMonth(YearMonth yearMonth) {
-        // Iterate over the full backing list to avoid filters hiding persons
-        for (Student person : model.getAddressBook().getPersonList()) {
-            if (!(person instanceof Student)) {
-                continue;
+    private List<PaymentUpdate> computeUpdates(List<Student> students, YearMonth firstMonth, YearMonth lastMonth) {
+        return students.parallelStream()
+                .map(student -> {
+                    PaymentList rolledOver = rollover(student, firstMonth, lastMonth);
+                    return rolledOver == null ? null : new PaymentUpdate(student, rolledOver);
+                })
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Applies {@code updates} to the model on the calling thread, as a single batch.
+     */
+    private void applyUpdates(List<PaymentUpdate> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        model.beginBatch();
+        try {
+            for (PaymentUpdate update : updates) {
+                model.setPerson(update.student, withPayments(update.student, update.payments));
             }
+        } finally {
+            model.commitBatch();
+        }
+    }
 
-            Student student = (Student) person;
+    /**
+     * Applies rollover logic for every month from {@code firstMonth} to {@code lastMonth} inclusive
+     * to a single student, without modifying the student.
+     * Only reads the student, whose getters have no side effects, so it is safe to call for different students
+     * concurrently.
+     *
+     * @return a copy of the student's payments with the rolled over months, or null if no month changed.
+     */
+    private PaymentList rollover(Student student, YearMonth firstMonth, YearMonth lastMonth) {
+        PaymentList payments = student.getPayments();
+        PaymentList copied = null;
 
+        for (YearMonth yearMonth = firstMonth; !yearMonth.isAfter(lastMonth); yearMonth = yearMonth.plusMonths(1)) {
             // Compute amount earned for this YearMonth
             TotalAmount amount = student.getTotalAmountByMonth(yearMonth);
 
             // Skip zero values
-            if (amount.getAsFloat() <= 0f) {
+            if (amount.getCents() <= 0) {
                 continue;
             }
 
-            PaymentList oldPayments = student.getPayments();
-
-            // Duplicate Handling; returns true if month is present (handled or skipped)
-            if (upsert(student, yearMonth, amount)) {
+            // Duplicate handling; the month is either overwritten or skipped
+            if (payments.containsMonth(yearMonth)) {
+                if (!needsOverwrite(student, payments, yearMonth, amount)) {
+                    continue;
+                }
+                if (copied == null) {
+                    copied = payments.copy();
+                    payments = copied;
+                }
+                copied.putPaymentForMonth(new Payment(yearMonth, amount));
                 continue;
             }
 
-            // Happy path: add if absent (idempotent add)
-            Payment newPayment = new Payment(yearMonth, amount);
-            PaymentList copiedPayments = oldPayments.copy();
-            boolean added = copiedPayments.addPaymentIfAbsent(newPayment);
-            if (!added) {
-                continue;
+            // Happy path: add the missing month
+            if (copied == null) {
+                copied = payments.copy();
+                payments = copied;
             }
-
-            Student editedStudent = new Student(
-                    student.getName(),
-                    student.getPhone(),
-                    student.getEmail(),
-                    student.getAddress(),
-                    student.getTags(),
-                    student.getLessonList(),
-                    copiedPayments
-            );
-
-            model.setPerson(student, editedStudent);
+            copied.addPaymentIfAbsent(new Payment(yearMonth, amount));
         }
+
+        return copied;
     }
 
     /**
      * Handles the "upsert" policy for an existing month:
-     * - If a payment exists for {@code yearMonth} and it is UNPAID and the recomputed amount differs,
-     *   overwrite that month's payment with the new computed {@code amount}.
-     * - If it exists but is PAID or the amount is unchanged, do nothing.
-     * Returns {@code true} if the month existed (handled or skipped), {@code false} if absent.
+     * - If the payment for {@code yearMonth} is UNPAID and the recomputed amount differs,
+     *   that month's payment should be overwritten with the new computed {@code amount}.
+     * - If it is PAID or the amount is unchanged, it is left alone.
+     * Returns {@code true} if the payment should be overwritten.
      */
-    private boolean upsert(Student student, YearMonth yearMonth, TotalAmount amount) {
-        PaymentList oldPayments = student.getPayments();
-
-        // If month not present, signal caller to proceed with "add if absent"
-        if (!oldPayments.containsMonth(yearMonth)) {
-            return false;
-        }
-
+    private boolean needsOverwrite(Student student, PaymentList payments, YearMonth yearMonth, TotalAmount amount) {
         try {
-            Payment existing = oldPayments.getPaymentByMonth(yearMonth);
-            TotalAmount existingAmt = existing.getTotalAmount();
-            float newAmt = amount.getAsFloat();
-            boolean amountDiffers = Float.compare(existingAmt.getAsFloat(), newAmt) != 0;
-
-            if (amountDiffers && !existing.isPaid()) {
-                // Overwrite (idempotent upsert for unpaid months whose computed amount changed)
-                PaymentList copied = oldPayments.copy();
-                copied.putPaymentForMonth(new Payment(yearMonth, amount));
-
-                Student editedStudent = new Student(
-                        student.getName(),
-                        student.getPhone(),
-                        student.getEmail(),
-                        student.getAddress(),
-                        student.getTags(),
-                        student.getLessonList(),
-                        copied
-                );
-                model.setPerson(student, editedStudent);
-            }
+            Payment existing = payments.getPaymentByMonth(yearMonth);
+            boolean amountDiffers = !existing.getTotalAmount().equals(amount);
+            return amountDiffers && !existing.isPaid();
         } catch (PaymentException e) {
             // Lookup failed despite containsMonth(): log and treat as handled for this student-month
             logger.warning("Rollover lookup failed for " + student.getName() + " " + yearMonth
                     + ": " + e.getMessage());
+            return false;
         }
+    }
 
-        return true;
+    /**
+     * The rolled over payments of a student, waiting to be applied to the model.
+     */
+    private static final class PaymentUpdate {
+        private final Student student;
+        private final PaymentList payments;
+
+        private PaymentUpdate(Student student, PaymentList payments) {
+            this.student = student;
+            this.payments = payments;
+        }
+    }
+
+    /**
+     * Returns a copy of {@code student} holding {@code payments}.
+     */
+    private static Student withPayments(Student student, PaymentList payments) {
+        return new Student(
+                student.getName(),
+                student.getPhone(),
+                student.getEmail(),
+                student.getAddress(),
+                student.getTags(),
+                student.getLessonList(),
+                payments
+        );
     }
 }
@@ -26,34 +26,34 @@ public class SampleDataUtil {
     public static Student[] getSamplePersons() {
         return new Student[] {
             new Student(new Name("Alex Yeoh"), new Phone("87438807"), new Email("alexyeoh@example.com"),
-                new Address("Blk 30 Geylang Street 29, #06-40"),
+                Address.of("Blk 30 Geylang Street 29, #06-40"),
                 getTagSet("friends")),
             new Student(new Name("Bernice Yu"), new Phone("99272758"), new Email("berniceyu@example.com"),
-                new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18"),
+                Address.of("Blk 30 Lorong 3 Serangoon Gardens, #07-18"),
                 getTagSet("colleagues", "friends")),
             new Student(new Name("Charlotte Oliveiro"), new Phone("93210283"), new Email("charlotte@example.com"),
-                new Address("Blk 11 Ang Mo Kio Street 74, #11-04"),
+                Address.of("Blk 11 Ang Mo Kio Street 74, #11-04"),
                 getTagSet("neighbours")),
             new Student(new Name("David Li"), new Phone("91031282"), new Email("lidavid@example.com"),
-                new Address("Blk 436 Serangoon Gardens Street 26, #16-43"),
+                Address.of("Blk 436 Serangoon Gardens Street 26, #16-43"),
                 getTagSet("family")),
             new Student(new Name("Irfan Ibrahim"), new Phone("92492021"), new Email("irfan@example.com"),
-                new Address("Blk 47 Tampines Street 20, #17-35"),
+                Address.of("Blk 47 Tampines Street 20, #17-35"),
                 getTagSet("classmates")),
             new Student(new Name("Roy Balakrishnan"), new Phone("92624417"), new Email("royb@example.com"),
-                new Address("Blk 45 Aljunied Street 85, #11-31"),
+                Address.of("Blk 45 Aljunied Street 85, #11-31"),
                 getTagSet("colleagues"))
         };
     }
 
     public static Lesson[] getSampleLessons() {
         return new Lesson[] {
-            new Lesson(Subject.fromString("English"), Level.fromString("1"), new Day("1"),
-                    LessonTime.ofLessonTime("11:00", "14:00"), new Rate("56.07")),
-            new Lesson(Subject.fromString("geography"), Level.fromString("2"), new Day("3"),
-                    LessonTime.ofLessonTime("09:00", "12:00"), new Rate("30.00")),
-            new Lesson(Subject.fromString("biology"), Level.fromString("5"), new Day("6"),
-                    LessonTime.ofLessonTime("15:30", "19:45"), new Rate("69.69"))
+            new Lesson(Subject.fromString("English"), Level.fromString("1"), Day.of(1),
+                    LessonTime.ofLessonTime("11:00", "14:00"), Rate.of("56.07")),
+            new Lesson(Subject.fromString("geography"), Level.fromString("2"), Day.of(3),
+                    LessonTime.ofLessonTime("09:00", "12:00"), Rate.of("30.00")),
+            new Lesson(Subject.fromString("biology"), Level.fromString("5"), Day.of(6),
+                    LessonTime.ofLessonTime("15:30", "19:45"), Rate.of("69.69"))
         };
     }
 
@@ -70,7 +70,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
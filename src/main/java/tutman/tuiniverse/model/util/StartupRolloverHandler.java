@@ -65,6 +65,8 @@ public class StartupRolloverHandler {
 
         // Do rollover for missing months
         new MonthlyRollover(model).compute(lastOpened, now);
+        // the rollover is not a user command, so it should not be undoable
+        model.clearAddressBookHistory();
 
         // Save changes
         userPrefs.setLastOpened(now);
@@ -74,13 +76,18 @@ public class StartupRolloverHandler {
     }
 
     /**
-     * Saves the current address book state to storage.
+     * Saves the current address book state to storage, unless it has not changed since it was last saved.
      *
      * @param context a descriptive context string for logging purposes
      */
     private void saveAddressBook(String context) {
+        if (!model.hasUnsavedAddressBookChanges()) {
+            logger.info("[Startup] Skipping save of AddressBook " + context + " - no changes");
+            return;
+        }
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            storage.saveAddressBookChanges(model.getAddressBook(), model.takeAddressBookChanges());
+            model.markAddressBookSaved();
         } catch (IOException e) {
             logger.warning("[Startup] Failed to save AddressBook " + context + ": " + StringUtil.getDetails(e));
         }
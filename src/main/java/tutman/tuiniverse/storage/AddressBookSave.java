@@ -0,0 +1,34 @@
+package tutman.tuiniverse.storage;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * A save of an address book, captured when it was prepared, so that it can be written later, possibly on another
+ * thread, while the address book keeps changing.
+ * <p>
+ * Saves prepared by one storage must be written in the order they were prepared, except that a complete save makes
+ * every save prepared before it unnecessary.
+ */
+public interface AddressBookSave {
+
+    /**
+     * Writes this save to storage.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void write() throws IOException;
+
+    /**
+     * Returns true if this save holds the whole address book, so that it does not depend on any earlier save.
+     */
+    boolean isComplete();
+
+    /**
+     * Returns a single save with the same effect as writing this save and then {@code next}, if there is one.
+     */
+    default Optional<AddressBookSave> merge(AddressBookSave next) {
+        return Optional.empty();
+    }
+
+}
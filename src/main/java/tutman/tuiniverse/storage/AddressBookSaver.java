@@ -0,0 +1,186 @@
+package tutman.tuiniverse.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import tutman.tuiniverse.commons.core.LogsCenter;
+
+/**
+ * Writes {@link AddressBookSave}s on a dedicated background thread, so that saving does not hold up the thread
+ * that submits them.
+ * <p>
+ * Saves are written in the order they were submitted. Saves submitted while an earlier write is in progress are
+ * coalesced: a complete save replaces every save before it, and consecutive saves that can be merged are written
+ * as one. If a write fails, the failure handler is told on the background thread, and the saves that depend on it
+ * are dropped until the next complete save.
+ */
+public class AddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaver.class);
+
+    private final List<AddressBookSave> pendingSaves = new ArrayList<>();
+    private volatile Consumer<IOException> failureHandler = e -> { };
+    private boolean isWriting;
+    private boolean isClosed;
+    private IOException unflushedFailure;
+
+    /** Accessed only by the background thread. */
+    private boolean isBroken;
+
+    /**
+     * Creates an {@code AddressBookSaver} and starts its background thread.
+     */
+    public AddressBookSaver() {
+        Thread thread = new Thread(this::run, "address-book-saver");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Sets the handler told of each failed write. It is called on the background thread.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        this.failureHandler = requireNonNull(failureHandler);
+    }
+
+    /**
+     * Queues {@code save} to be written after every save submitted before it.
+     */
+    public synchronized void submit(AddressBookSave save) {
+        requireNonNull(save);
+        if (isClosed) {
+            throw new IllegalStateException("Saver is closed");
+        }
+        pendingSaves.add(save);
+        notifyAll();
+    }
+
+    /**
+     * Waits until every save submitted so far has been written or dropped.
+     *
+     * @throws IOException the first write that failed since the last flush, if any.
+     */
+    public synchronized void flush() throws IOException {
+        try {
+            while (!pendingSaves.isEmpty() || isWriting) {
+                wait();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for saves to be written");
+        }
+
+        IOException failure = unflushedFailure;
+        unflushedFailure = null;
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Writes every save submitted so far, then stops the background thread. No more saves can be submitted.
+     *
+     * @throws IOException the first write that failed since the last flush, if any.
+     */
+    public void close() throws IOException {
+        synchronized (this) {
+            isClosed = true;
+            notifyAll();
+        }
+        flush();
+    }
+
+    private void run() {
+        while (true) {
+            List<AddressBookSave> saves;
+            synchronized (this) {
+                try {
+                    while (pendingSaves.isEmpty() && !isClosed) {
+                        wait();
+                    }
+                } catch (InterruptedException e) {
+                    logger.warning("Address book saver interrupted, pending saves are not written");
+                    return;
+                }
+                if (pendingSaves.isEmpty()) {
+                    return;
+                }
+                saves = new ArrayList<>(pendingSaves);
+                pendingSaves.clear();
+                isWriting = true;
+            }
+
+            IOException failure = writeAll(coalesce(saves));
+            if (failure != null) {
+                failureHandler.accept(failure);
+            }
+
+            synchronized (this) {
+                isWriting = false;
+                if (unflushedFailure == null) {
+                    unflushedFailure = failure;
+                }
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Returns the fewest saves with the same effect as writing {@code saves} in order.
+     */
+    private List<AddressBookSave> coalesce(List<AddressBookSave> saves) {
+        List<AddressBookSave> writes = new ArrayList<>();
+        for (AddressBookSave save : saves) {
+            if (save.isComplete()) {
+                writes.clear();
+                isBroken = false;
+            } else if (isBroken) {
+                continue;
+            }
+
+            Optional<AddressBookSave> merged = writes.isEmpty()
+                    ? Optional.empty()
+                    : writes.get(writes.size() - 1).merge(save);
+            if (merged.isPresent()) {
+                writes.set(writes.size() - 1, merged.get());
+            } else {
+                writes.add(save);
+            }
+        }
+        if (saves.size() > writes.size()) {
+            logger.fine("Coalesced " + saves.size() + " saves into " + writes.size() + " writes");
+        }
+        return writes;
+    }
+
+    /**
+     * Writes {@code saves} in order, stopping at the first failure.
+     *
+     * @return the failure, or null if every save was written.
+     */
+    private IOException writeAll(List<AddressBookSave> saves) {
+        for (AddressBookSave save : saves) {
+            IOException failure;
+            try {
+                save.write();
+                continue;
+            } catch (IOException e) {
+                failure = e;
+            } catch (RuntimeException e) {
+                // reported like any other failed write, so that the background thread keeps running
+                failure = new IOException(e);
+            }
+            logger.warning("Failed to save the address book: " + failure);
+            // later saves build on this one, so they wait for the next complete save
+            isBroken = true;
+            return failure;
+        }
+        return null;
+    }
+}
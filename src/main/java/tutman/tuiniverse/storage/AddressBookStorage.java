@@ -6,6 +6,7 @@ import java.util.Optional;
 
 import tutman.tuiniverse.commons.exceptions.DataLoadingException;
 import tutman.tuiniverse.model.AddressBook;
+import tutman.tuiniverse.model.AddressBookChanges;
 import tutman.tuiniverse.model.ReadOnlyAddressBook;
 
 /**
@@ -43,4 +44,25 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves the {@code changes} made to the given {@link ReadOnlyAddressBook} since it was last saved or read.
+     * Storages that cannot save only the changes save the whole address book.
+     * @param addressBook cannot be null.
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes)
+            throws IOException {
+        saveAddressBook(addressBook);
+    }
+
+    /**
+     * Captures the {@code changes} made to the given {@link ReadOnlyAddressBook} since it was last saved or read,
+     * so that they can be written later, even if the address book changes in the meantime.
+     * Storages that cannot save only the changes capture the whole address book.
+     * @param addressBook cannot be null.
+     * @param changes cannot be null.
+     */
+    AddressBookSave prepareSave(ReadOnlyAddressBook addressBook, AddressBookChanges changes);
+
 }
@@ -0,0 +1,426 @@
+package tutman.tuiniverse.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import tutman.tuiniverse.commons.core.LogsCenter;
+import tutman.tuiniverse.commons.exceptions.DataLoadingException;
+import tutman.tuiniverse.commons.exceptions.IllegalValueException;
+import tutman.tuiniverse.commons.util.FileUtil;
+import tutman.tuiniverse.model.AddressBookChanges;
+import tutman.tuiniverse.model.ReadOnlyAddressBook;
+import tutman.tuiniverse.model.lesson.Day;
+import tutman.tuiniverse.model.lesson.Lesson;
+import tutman.tuiniverse.model.lesson.LessonList;
+import tutman.tuiniverse.model.lesson.LessonTime;
+import tutman.tuiniverse.model.lesson.Level;
+import tutman.tuiniverse.model.lesson.Rate;
+import tutman.tuiniverse.model.lesson.Subject;
+import tutman.tuiniverse.model.payment.Payment;
+import tutman.tuiniverse.model.payment.PaymentList;
+import tutman.tuiniverse.model.payment.TotalAmount;
+import tutman.tuiniverse.model.payment.UnpaidAmount;
+import tutman.tuiniverse.model.student.Address;
+import tutman.tuiniverse.model.student.Email;
+import tutman.tuiniverse.model.student.Name;
+import tutman.tuiniverse.model.student.Phone;
+import tutman.tuiniverse.model.student.Student;
+import tutman.tuiniverse.model.student.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ * <p>
+ * The file starts with {@link #MAGIC} and the format {@link #VERSION}, followed by a table of the distinct strings in
+ * the address book, and then the persons with their tags, lessons and payments. Fields refer to strings by their
+ * index in the table, numbers are written as fixed-size primitives, and every string and list is prefixed with its
+ * length. The file ends with a CRC32 checksum of everything before it, so that a damaged file is rejected.
+ * <p>
+ * Values shared by many persons and lessons, such as addresses, tags, subjects and rates, are stored and validated
+ * once each. If there is no snapshot yet, the json address book at {@code importFilePath} is read instead, so that
+ * switching to this format keeps the existing data.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final int MAGIC = 0x54554942; // "TUIB"
+    public static final int VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private static final int NO_STRING = -1;
+    private static final int CHECKSUM_BYTES = Long.BYTES;
+
+    private final Path filePath;
+    private final Path importFilePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that reads the json address book at {@code importFilePath} while
+     * there is no snapshot at {@code filePath}. {@code importFilePath} may be null.
+     */
+    public BinaryAddressBookStorage(Path filePath, Path importFilePath) {
+        this.filePath = filePath;
+        this.importFilePath = importFilePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            if (filePath.equals(this.filePath) && importFilePath != null && Files.exists(importFilePath)) {
+                logger.info("Importing address book from json file " + importFilePath);
+                return new JournaledAddressBookStorage(importFilePath).readAddressBook();
+            }
+            return Optional.empty();
+        }
+
+        try {
+            List<Student> persons = decode(FileUtil.readBytesFromFile(filePath));
+            return Optional.of(JsonSerializableAddressBook.toModelType(persons));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        writeSnapshot(encode(addressBook), filePath);
+    }
+
+    @Override
+    public AddressBookSave prepareSave(ReadOnlyAddressBook addressBook, AddressBookChanges changes) {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+
+        return new SnapshotSave(encode(addressBook), filePath);
+    }
+
+    private static void writeSnapshot(byte[] snapshot, Path filePath) throws IOException {
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, snapshot);
+    }
+
+    /**
+     * Returns the snapshot of {@code addressBook}, including its checksum.
+     */
+    static byte[] encode(ReadOnlyAddressBook addressBook) {
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        ByteArrayOutputStream snapshot = new ByteArrayOutputStream();
+        try {
+            DataOutputStream out = new DataOutputStream(body);
+            List<Student> persons = addressBook.getPersonList();
+            out.writeInt(persons.size());
+            for (Student person : persons) {
+                writePerson(out, person, stringTable);
+            }
+
+            out = new DataOutputStream(snapshot);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(stringTable.size());
+            for (String string : stringTable.keySet()) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            body.writeTo(out);
+            out.writeLong(checksumOf(snapshot.toByteArray(), snapshot.size()));
+        } catch (IOException e) {
+            throw new AssertionError("Writing to memory cannot fail", e);
+        }
+        return snapshot.toByteArray();
+    }
+
+    private static void writePerson(DataOutputStream out, Student person, Map<String, Integer> stringTable)
+            throws IOException {
+        out.writeInt(indexOf(person.getName().fullName, stringTable));
+        out.writeInt(indexOf(person.getPhone().value, stringTable));
+        out.writeInt(indexOf(person.getEmail().value, stringTable));
+        out.writeInt(indexOf(person.getAddress().value, stringTable));
+
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeInt(indexOf(tag.tagName, stringTable));
+        }
+
+        List<Lesson> lessons = person.getLessonList().getLessons();
+        out.writeInt(lessons.size());
+        for (Lesson lesson : lessons) {
+            out.writeInt(indexOf(lesson.getSubject().toString(), stringTable));
+            out.writeInt(indexOf(lesson.getLevel().toString(), stringTable));
+            out.writeByte(lesson.getDay().getDayOfWeek().getValue());
+            out.writeShort(lesson.getLessonTime().getStartMinute());
+            out.writeShort(lesson.getLessonTime().getEndMinute());
+            out.writeInt(indexOf(lesson.getRate().toString(), stringTable));
+            out.writeInt(indexOf(lesson.getStudentName(), stringTable));
+        }
+
+        Collection<Payment> payments = person.getPayments().getPayments();
+        out.writeInt(payments.size());
+        for (Payment payment : payments) {
+            out.writeInt(payment.getYearMonth().getYear());
+            out.writeByte(payment.getYearMonth().getMonthValue());
+            out.writeLong(payment.getTotalAmountCents());
+            out.writeLong(payment.getUnpaidAmountCents());
+        }
+    }
+
+    private static int indexOf(String string, Map<String, Integer> stringTable) {
+        if (string == null) {
+            return NO_STRING;
+        }
+        return stringTable.computeIfAbsent(string, unused -> stringTable.size());
+    }
+
+    /**
+     * Returns the persons in {@code snapshot}, in order.
+     *
+     * @throws IOException if {@code snapshot} is damaged or not a snapshot of a supported version.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static List<Student> decode(byte[] snapshot) throws IOException, IllegalValueException {
+        int length = snapshot.length - CHECKSUM_BYTES;
+        if (length < 0 || checksumOf(snapshot, length) != readChecksum(snapshot, length)) {
+            throw new StreamCorruptedException("Checksum of binary address book does not match");
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(snapshot, 0, length));
+        if (in.readInt() != MAGIC) {
+            throw new StreamCorruptedException("Not a binary address book");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new StreamCorruptedException("Unsupported binary address book version " + version);
+        }
+
+        try {
+            return new SnapshotReader(in).readPersons();
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    private static long checksumOf(byte[] bytes, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, length);
+        return crc.getValue();
+    }
+
+    private static long readChecksum(byte[] snapshot, int offset) throws IOException {
+        return new DataInputStream(new ByteArrayInputStream(snapshot, offset, CHECKSUM_BYTES)).readLong();
+    }
+
+    /**
+     * Reads the persons of a snapshot after its header, converting each distinct shared value only once.
+     */
+    private static class SnapshotReader {
+        private final DataInputStream in;
+        private final String[] strings;
+        private final ParsedStrings<Address> addresses;
+        private final ParsedStrings<Tag> tags;
+        private final ParsedStrings<Subject> subjects;
+        private final ParsedStrings<Level> levels;
+        private final ParsedStrings<Rate> rates;
+
+        SnapshotReader(DataInputStream in) throws IOException {
+            this.in = in;
+            strings = new String[readCount()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[readCount()];
+                in.readFully(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            addresses = new ParsedStrings<>(strings, Address::of);
+            tags = new ParsedStrings<>(strings, Tag::of);
+            subjects = new ParsedStrings<>(strings, Subject::fromString);
+            levels = new ParsedStrings<>(strings, Level::fromString);
+            rates = new ParsedStrings<>(strings, Rate::of);
+        }
+
+        List<Student> readPersons() throws IOException {
+            int count = readCount();
+            List<Student> persons = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                persons.add(readPerson());
+            }
+            return persons;
+        }
+
+        private Student readPerson() throws IOException {
+            Name name = new Name(readString());
+            Phone phone = new Phone(readString());
+            Email email = new Email(readString());
+            Address address = addresses.get(readIndex());
+
+            int tagCount = readCount();
+            Set<Tag> personTags = new HashSet<>();
+            for (int i = 0; i < tagCount; i++) {
+                personTags.add(tags.get(readIndex()));
+            }
+
+            int lessonCount = readCount();
+            List<Lesson> lessons = new ArrayList<>(lessonCount);
+            for (int i = 0; i < lessonCount; i++) {
+                lessons.add(readLesson());
+            }
+
+            int paymentCount = readCount();
+            List<Payment> payments = new ArrayList<>(paymentCount);
+            for (int i = 0; i < paymentCount; i++) {
+                YearMonth yearMonth = YearMonth.of(in.readInt(), in.readByte());
+                payments.add(new Payment(yearMonth, TotalAmount.ofCents(in.readLong()),
+                        UnpaidAmount.ofCents(in.readLong())));
+            }
+
+            Student student = new Student(name, phone, email, address, personTags, new LessonList(),
+                    new PaymentList(payments));
+            student.adoptLessons(lessons);
+            return student;
+        }
+
+        private Lesson readLesson() throws IOException {
+            Subject subject = subjects.get(readIndex());
+            Level level = levels.get(readIndex());
+            Day day = Day.of(in.readByte());
+            LessonTime lessonTime = LessonTime.ofMinutes(in.readShort(), in.readShort());
+            Rate rate = rates.get(readIndex());
+            int studentName = in.readInt();
+            return new Lesson(subject, level, day, lessonTime, rate,
+                    studentName == NO_STRING ? null : strings[checkIndex(studentName)]);
+        }
+
+        private String readString() throws IOException {
+            return strings[readIndex()];
+        }
+
+        private int readIndex() throws IOException {
+            return checkIndex(in.readInt());
+        }
+
+        private int checkIndex(int index) throws StreamCorruptedException {
+            if (index < 0 || index >= strings.length) {
+                throw new StreamCorruptedException("Invalid string index " + index);
+            }
+            return index;
+        }
+
+        /**
+         * Reads the length of a string or list, which cannot be more than the bytes left to read.
+         */
+        private int readCount() throws IOException {
+            int count = in.readInt();
+            if (count < 0 || count > in.available()) {
+                throw new StreamCorruptedException("Invalid length " + count);
+            }
+            return count;
+        }
+    }
+
+    /**
+     * The values parsed from the strings of a string table, each parsed at most once.
+     */
+    private static class ParsedStrings<T> {
+        private final String[] strings;
+        private final List<T> values;
+        private final Function<String, T> parser;
+
+        ParsedStrings(String[] strings, Function<String, T> parser) {
+            this.strings = strings;
+            this.values = new ArrayList<>(Collections.nCopies(strings.length, null));
+            this.parser = parser;
+        }
+
+        T get(int index) {
+            T value = values.get(index);
+            if (value == null) {
+                value = parser.apply(strings[index]);
+                values.set(index, value);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * A save of the whole address book, encoded when it was prepared.
+     */
+    private static class SnapshotSave implements AddressBookSave {
+        private final byte[] snapshot;
+        private final Path filePath;
+
+        SnapshotSave(byte[] snapshot, Path filePath) {
+            this.snapshot = snapshot;
+            this.filePath = filePath;
+        }
+
+        @Override
+        public void write() throws IOException {
+            writeSnapshot(snapshot, filePath);
+        }
+
+        @Override
+        public boolean isComplete() {
+            return true;
+        }
+    }
+}
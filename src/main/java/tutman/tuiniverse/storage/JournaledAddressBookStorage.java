@@ -0,0 +1,304 @@
+package tutman.tuiniverse.storage;
+
+import static java.util.Objects.requireNonNull;
+import static tutman.tuiniverse.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import tutman.tuiniverse.commons.core.LogsCenter;
+import tutman.tuiniverse.commons.exceptions.DataLoadingException;
+import tutman.tuiniverse.commons.exceptions.IllegalValueException;
+import tutman.tuiniverse.commons.util.FileUtil;
+import tutman.tuiniverse.commons.util.JsonUtil;
+import tutman.tuiniverse.model.AddressBookChanges;
+import tutman.tuiniverse.model.ReadOnlyAddressBook;
+import tutman.tuiniverse.model.student.Student;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot on the hard disk, followed by a journal of the changes
+ * saved since the snapshot was written.
+ * <p>
+ * Saving changes appends one line to the journal, holding only the persons that changed, so it costs as much as
+ * the change rather than the whole address book. Once the journal holds {@code compactionThreshold} entries, or the
+ * whole address book was replaced, the next save writes a fresh snapshot and empties the journal instead.
+ * Reading loads the snapshot and then replays the journal on top of it.
+ * <p>
+ * The snapshot has the same format as the file written by {@link JsonAddressBookStorage}, and the journal sits next
+ * to it with the extension {@value #JOURNAL_EXTENSION} added.
+ * <p>
+ * Saves may be written on another thread than the one preparing them, as long as they are written in order.
+ */
+public class JournaledAddressBookStorage extends JsonAddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 100;
+    public static final String JOURNAL_EXTENSION = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final int compactionThreshold;
+
+    /** The snapshot that the journal currently extends, or null if new entries cannot be appended to it. */
+    private volatile Path journaledFilePath;
+    private volatile String snapshotChecksum;
+    private int journalSize;
+
+    public JournaledAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that writes a fresh snapshot once the journal holds
+     * {@code compactionThreshold} entries.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        super(filePath);
+        checkArgument(compactionThreshold > 0, "Compaction threshold must be positive");
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the path of the journal of the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        requireNonNull(filePath);
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_EXTENSION);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The journal is ignored if there is no snapshot.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the snapshot or the journal failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        List<Student> persons;
+        String checksum;
+        try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(filePath), new CRC32())) {
+            persons = JsonAddressBookReader.readPersons(in);
+            // the checksum covers the whole file, including anything after the address book
+            in.transferTo(OutputStream.nullOutputStream());
+            checksum = Long.toHexString(in.getChecksum().getValue());
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        int entries = replayJournal(getJournalFilePath(filePath), checksum, persons);
+
+        try {
+            ReadOnlyAddressBook addressBook = JsonSerializableAddressBook.toModelType(persons);
+            // after an incomplete entry, appending more entries would corrupt the journal
+            journaledFilePath = entries < 0 ? null : filePath;
+            snapshotChecksum = checksum;
+            journalSize = entries;
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Writes a fresh snapshot and empties its journal.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        super.saveAddressBook(addressBook, filePath);
+        journaledFilePath = filePath;
+        journalSize = 0;
+    }
+
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes)
+            throws IOException {
+        prepareSave(addressBook, changes).write();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Captures a fresh snapshot instead if the journal is full, the whole address book was replaced, or the journal
+     * cannot be appended to.
+     */
+    @Override
+    public synchronized AddressBookSave prepareSave(ReadOnlyAddressBook addressBook, AddressBookChanges changes) {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+
+        Path filePath = getAddressBookFilePath();
+        if (!filePath.equals(journaledFilePath) || changes.isReset() || journalSize >= compactionThreshold) {
+            AddressBookSave save = super.prepareSave(addressBook, changes);
+            // if writing the snapshot fails, journaledFilePath is cleared again before any later save is written
+            journaledFilePath = filePath;
+            journalSize = 0;
+            return save;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = changes.isEmpty()
+                ? List.of()
+                : List.of(new JsonAdaptedJournalEntry(addressBook, changes));
+        journalSize += entries.size();
+        return new JournalSave(this, filePath, entries);
+    }
+
+    /**
+     * Writes a fresh snapshot and empties its journal.
+     */
+    @Override
+    void writeAddressBook(JsonSerializableAddressBook data, Path filePath) throws IOException {
+        try {
+            String json = JsonUtil.toJsonString(data);
+            FileUtil.createIfMissing(filePath);
+            FileUtil.writeToFile(filePath, json);
+            // entries left in the journal do not extend the new snapshot, so they are ignored even if this fails
+            FileUtil.deleteIfExists(getJournalFilePath(filePath));
+            snapshotChecksum = checksumOf(json);
+        } catch (IOException e) {
+            journaledFilePath = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Appends {@code entries} to the journal of the snapshot at {@code filePath}.
+     */
+    private void appendEntries(Path filePath, List<JsonAdaptedJournalEntry> entries) throws IOException {
+        try {
+            StringBuilder lines = new StringBuilder();
+            for (JsonAdaptedJournalEntry entry : entries) {
+                lines.append(JsonUtil.toCompactJsonString(entry.extending(snapshotChecksum)))
+                        .append(System.lineSeparator());
+            }
+            FileUtil.appendToFile(getJournalFilePath(filePath), lines.toString());
+        } catch (IOException e) {
+            // the journal may now end in part of an entry, so start afresh from a snapshot
+            journaledFilePath = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Applies the entries of the journal at {@code journalFilePath} that extend the snapshot with checksum
+     * {@code checksum} to {@code persons}, in order.
+     * An incomplete last entry, left by a save that was cut short, is skipped.
+     *
+     * @return the number of entries applied, or -1 if the last entry was skipped.
+     * @throws DataLoadingException if the journal could not be read or holds an invalid entry.
+     */
+    private int replayJournal(Path journalFilePath, String checksum, List<Student> persons)
+            throws DataLoadingException {
+        List<String> lines;
+        try {
+            lines = FileUtil.readLinesFromFile(journalFilePath);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        int entries = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Skipping incomplete last entry of journal file " + journalFilePath);
+                    return -1;
+                }
+                logger.warning("Error reading entry " + (i + 1) + " of journal file " + journalFilePath + ": " + e);
+                throw new DataLoadingException(e);
+            }
+
+            if (!entry.extendsSnapshot(checksum)) {
+                logger.info("Skipping entry " + (i + 1) + " of journal file " + journalFilePath
+                        + " as it extends an older snapshot");
+                continue;
+            }
+            try {
+                entry.applyTo(persons);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+            entries++;
+        }
+        return entries;
+    }
+
+    private static String checksumOf(String json) {
+        CRC32 crc = new CRC32();
+        crc.update(json.getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+
+    /**
+     * A save of the journal entries for some changes, converted for Jackson use when it was prepared.
+     * Consecutive journal saves to the same file merge into one append.
+     */
+    private static class JournalSave implements AddressBookSave {
+        private final JournaledAddressBookStorage storage;
+        private final Path filePath;
+        private final List<JsonAdaptedJournalEntry> entries;
+
+        JournalSave(JournaledAddressBookStorage storage, Path filePath, List<JsonAdaptedJournalEntry> entries) {
+            this.storage = storage;
+            this.filePath = filePath;
+            this.entries = entries;
+        }
+
+        @Override
+        public void write() throws IOException {
+            if (!entries.isEmpty()) {
+                storage.appendEntries(filePath, entries);
+            }
+        }
+
+        @Override
+        public boolean isComplete() {
+            return false;
+        }
+
+        @Override
+        public Optional<AddressBookSave> merge(AddressBookSave next) {
+            if (!(next instanceof JournalSave)) {
+                return Optional.empty();
+            }
+
+            JournalSave nextJournalSave = (JournalSave) next;
+            if (storage != nextJournalSave.storage || !filePath.equals(nextJournalSave.filePath)) {
+                return Optional.empty();
+            }
+            List<JsonAdaptedJournalEntry> merged = new ArrayList<>(entries);
+            merged.addAll(nextJournalSave.entries);
+            return Optional.of(new JournalSave(storage, filePath, merged));
+        }
+    }
+}
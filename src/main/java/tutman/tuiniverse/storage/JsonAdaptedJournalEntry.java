@@ -0,0 +1,162 @@
+package tutman.tuiniverse.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import tutman.tuiniverse.commons.exceptions.IllegalValueException;
+import tutman.tuiniverse.model.AddressBookChanges;
+import tutman.tuiniverse.model.ReadOnlyAddressBook;
+import tutman.tuiniverse.model.student.Student;
+
+/**
+ * Jackson-friendly version of one entry of an address book journal: the persons changed by one save.
+ * <p>
+ * Persons are matched by their identity fields. Applying an entry removes every person it lists, then inserts the
+ * changed persons again at their positions, in ascending order, which restores the order of the whole list.
+ * <p>
+ * Each entry also records the checksum of the snapshot it extends, so that entries left over from before a newer
+ * snapshot was written can be told apart.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_MISSING_PERSON = "Journal entry is missing a changed person.";
+
+    private final String snapshot;
+    private final List<RemovedPerson> removed = new ArrayList<>();
+    private final List<ChangedPerson> changed = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given removed and changed persons.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("snapshot") String snapshot,
+                                   @JsonProperty("removed") List<RemovedPerson> removed,
+                                   @JsonProperty("changed") List<ChangedPerson> changed) {
+        this.snapshot = snapshot;
+        if (removed != null) {
+            this.removed.addAll(removed);
+        }
+        if (changed != null) {
+            this.changed.addAll(changed);
+        }
+    }
+
+    /**
+     * Converts the {@code changes} to {@code source} into this class for Jackson use.
+     * Only the changed persons are converted. The entry does not extend any snapshot until
+     * {@link #extending(String)} is called.
+     */
+    public JsonAdaptedJournalEntry(ReadOnlyAddressBook source, AddressBookChanges changes) {
+        this.snapshot = null;
+        Map<Student, Integer> positions = new IdentityHashMap<>();
+        for (Student person : changes.getChangedPersons()) {
+            positions.put(person, -1);
+        }
+        List<Student> persons = source.getPersonList();
+        for (int i = 0; i < persons.size(); i++) {
+            positions.replace(persons.get(i), i);
+        }
+
+        for (Map.Entry<Student, Integer> entry : positions.entrySet()) {
+            Student person = entry.getKey();
+            if (entry.getValue() < 0) {
+                removed.add(new RemovedPerson(person.getEmail().value, person.getPhone().value));
+            } else {
+                changed.add(new ChangedPerson(entry.getValue(), new JsonAdaptedPerson(person)));
+            }
+        }
+        changed.sort(Comparator.comparingInt(changedPerson -> changedPerson.index));
+    }
+
+    /**
+     * Returns a copy of this entry that extends the snapshot with checksum {@code snapshot}.
+     */
+    public JsonAdaptedJournalEntry extending(String snapshot) {
+        return new JsonAdaptedJournalEntry(snapshot, removed, changed);
+    }
+
+    /**
+     * Returns true if this entry extends the snapshot with checksum {@code snapshot}.
+     */
+    public boolean extendsSnapshot(String snapshot) {
+        return Objects.equals(this.snapshot, snapshot);
+    }
+
+    /**
+     * Applies this entry to {@code persons}, the persons of the address book it was saved from, in order.
+     *
+     * @throws IllegalValueException if a changed person is missing or violates any data constraints.
+     */
+    public void applyTo(List<Student> persons) throws IllegalValueException {
+        List<Student> changedPersons = new ArrayList<>();
+        for (ChangedPerson changedPerson : changed) {
+            if (changedPerson.person == null) {
+                throw new IllegalValueException(MESSAGE_MISSING_PERSON);
+            }
+            changedPersons.add(changedPerson.person.toModelType());
+        }
+
+        Set<List<String>> stale = new HashSet<>();
+        for (RemovedPerson removedPerson : removed) {
+            stale.add(removedPerson.getIdentity());
+        }
+        for (Student changedPerson : changedPersons) {
+            stale.add(identityOf(changedPerson));
+        }
+        persons.removeIf(person -> stale.contains(identityOf(person)));
+
+        for (int i = 0; i < changed.size(); i++) {
+            int index = Math.max(0, Math.min(changed.get(i).index, persons.size()));
+            persons.add(index, changedPersons.get(i));
+        }
+    }
+
+    /**
+     * Returns the identity fields compared by {@code Student#isSamePerson}, as a key for {@code person}.
+     */
+    private static List<String> identityOf(Student person) {
+        return Arrays.asList(person.getEmail().value, person.getPhone().value);
+    }
+
+    /**
+     * The identity fields of a person that was removed or replaced.
+     */
+    static class RemovedPerson {
+        private final String email;
+        private final String phone;
+
+        @JsonCreator
+        RemovedPerson(@JsonProperty("email") String email, @JsonProperty("phone") String phone) {
+            this.email = email;
+            this.phone = phone;
+        }
+
+        List<String> getIdentity() {
+            return Arrays.asList(email, phone);
+        }
+    }
+
+    /**
+     * A person that was added or changed, and its position in the person list.
+     */
+    static class ChangedPerson {
+        private final int index;
+        private final JsonAdaptedPerson person;
+
+        @JsonCreator
+        ChangedPerson(@JsonProperty("index") int index, @JsonProperty("person") JsonAdaptedPerson person) {
+            this.index = index;
+            this.person = person;
+        }
+    }
+}
@@ -59,12 +59,20 @@ public class JsonAdaptedLesson {
      *
      */
     public Lesson toModelType() {
+        return toModelType(subject, level, day, startTime, endTime, rate, studentName);
+    }
+
+    /**
+     * Converts the stored fields of a lesson into the model's {@code Lesson} object.
+     */
+    static Lesson toModelType(String subject, String level, String day, String startTime, String endTime,
+                              String rate, String studentName) {
         Lesson res = new Lesson(
                 Subject.fromString(subject),
                 Level.fromString(level),
-                new Day(Integer.valueOf(day)),
+                Day.of(Integer.parseInt(day)),
                 LessonTime.ofLessonTime(startTime, endTime),
-                new Rate(rate),
+                Rate.of(rate),
                 studentName);
         return res;
     }
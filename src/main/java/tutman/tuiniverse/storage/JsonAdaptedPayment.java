@@ -6,6 +6,8 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import tutman.tuiniverse.commons.exceptions.IllegalValueException;
+import tutman.tuiniverse.model.payment.Amount;
+import tutman.tuiniverse.model.payment.Money;
 import tutman.tuiniverse.model.payment.Payment;
 import tutman.tuiniverse.model.payment.TotalAmount;
 import tutman.tuiniverse.model.payment.UnpaidAmount;
@@ -44,13 +46,39 @@ public class JsonAdaptedPayment {
      *
      */
     public Payment toModelType() throws IllegalValueException {
+        return toModelType(yearMonth, totalAmount, unpaidAmount);
+    }
+
+    /**
+     * Converts the stored fields of a payment into the model's {@code Payment} object.
+     */
+    static Payment toModelType(String yearMonth, String totalAmount, String unpaidAmount)
+            throws IllegalValueException {
         Payment p = new Payment(
                 YearMonth.parse(yearMonth),
-                new TotalAmount(Float.parseFloat(totalAmount)),
-                new UnpaidAmount(Float.parseFloat(unpaidAmount)));
+                TotalAmount.ofCents(parseCents(totalAmount)),
+                UnpaidAmount.ofCents(parseCents(unpaidAmount)));
 
         return p;
     }
 
+    /**
+     * Parses a stored dollar amount such as {@code "12.50"} exactly into cents.
+     */
+    private static long parseCents(String amount) throws IllegalValueException {
+        if (amount == null) {
+            throw new IllegalValueException(Amount.MESSAGE_CONSTRAINTS);
+        }
+        try {
+            long cents = Money.parseCents(amount);
+            if (!Amount.isValidAmount(cents)) {
+                throw new IllegalValueException(Amount.MESSAGE_CONSTRAINTS);
+            }
+            return cents;
+        } catch (NumberFormatException e) {
+            throw new IllegalValueException(Amount.MESSAGE_CONSTRAINTS);
+        }
+    }
+
 }
 
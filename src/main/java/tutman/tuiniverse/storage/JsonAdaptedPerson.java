@@ -99,6 +99,23 @@ class JsonAdaptedPerson {
             personPayments.add(payment.toModelType());
         }
 
+        final List<Lesson> personLessons = new ArrayList<>();
+        for (JsonAdaptedLesson lesson : lessons) {
+            personLessons.add(lesson.toModelType());
+        }
+
+        return toModelType(type, name, phone, email, address, personTags, personLessons, personPayments);
+    }
+
+    /**
+     * Converts the stored fields of a person, with their tags, lessons and payments already converted, into the
+     * model's {@code Person} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the stored fields.
+     */
+    static Student toModelType(String type, String name, String phone, String email, String address,
+                               List<Tag> personTags, List<Lesson> personLessons, List<Payment> personPayments)
+            throws IllegalValueException {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -134,19 +151,12 @@ class JsonAdaptedPerson {
             if (!Address.isValidAddress(address)) {
                 throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
             }
-            final Address modelAddress = new Address(address);
+            final Address modelAddress = Address.of(address);
             final Set<Tag> modelTags = new HashSet<>(personTags);
             final PaymentList pl = new PaymentList(personPayments);
             final LessonList ll = new LessonList();
             final Student student = new Student(modelName, modelPhone, modelEmail, modelAddress, modelTags, ll, pl);
-
-            student.disableAutoPaymentRefresh();
-            for (JsonAdaptedLesson lesson : lessons) {
-                Lesson l = lesson.toModelType();
-                l.addStudent(student);
-                student.getLessonList().addLesson(l);
-            }
-            student.enableAutoPaymentRefresh();
+            student.adoptLessons(personLessons);
 
 
             return student;
@@ -39,10 +39,17 @@ class JsonAdaptedTag {
      * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
      */
     public Tag toModelType() throws IllegalValueException {
+        return toModelType(tagName);
+    }
+
+    /**
+     * Converts a stored tag name into the model's {@code Tag} object.
+     */
+    static Tag toModelType(String tagName) throws IllegalValueException {
         if (!Tag.isValidTagName(tagName)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(tagName);
+        return Tag.of(tagName);
     }
 
 }
@@ -0,0 +1,220 @@
+package tutman.tuiniverse.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import tutman.tuiniverse.commons.exceptions.IllegalValueException;
+import tutman.tuiniverse.commons.util.JsonUtil;
+import tutman.tuiniverse.model.lesson.Lesson;
+import tutman.tuiniverse.model.payment.Payment;
+import tutman.tuiniverse.model.student.Student;
+import tutman.tuiniverse.model.student.tag.Tag;
+
+/**
+ * Reads the persons of an address book stored in the format of {@link JsonSerializableAddressBook}, one token at a
+ * time, converting each person with their tags, lessons and payments into the model as soon as it is read.
+ * <p>
+ * Unlike reading the data into a {@code JsonSerializableAddressBook}, the Jackson-friendly versions of the persons,
+ * lessons and payments are never built, so the file is not held in memory a second time while it is converted.
+ * Fields are read as Jackson reads them into those classes: unknown fields are skipped, missing fields are null, and
+ * numbers and booleans are read as strings.
+ */
+class JsonAddressBookReader {
+
+    private final JsonParser parser;
+
+    private JsonAddressBookReader(JsonParser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Reads the persons of the address book in {@code in}, in order. {@code in} is not closed.
+     *
+     * @throws IOException if the data could not be read or does not have the shape of an address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static List<Student> readPersons(InputStream in) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            return new JsonAddressBookReader(parser).readAddressBook();
+        }
+    }
+
+    private List<Student> readAddressBook() throws IOException, IllegalValueException {
+        parser.nextToken();
+        requireToken(JsonToken.START_OBJECT);
+
+        List<Student> persons = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if (field.equals("persons")) {
+                readArray(persons, this::readPerson);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return persons;
+    }
+
+    private Student readPerson() throws IOException, IllegalValueException {
+        requireToken(JsonToken.START_OBJECT);
+
+        String type = null;
+        String name = null;
+        String phone = null;
+        String email = null;
+        String address = null;
+        List<Tag> tags = new ArrayList<>();
+        List<Lesson> lessons = new ArrayList<>();
+        List<Payment> payments = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+            case "type":
+                type = readString();
+                break;
+            case "name":
+                name = readString();
+                break;
+            case "phone":
+                phone = readString();
+                break;
+            case "email":
+                email = readString();
+                break;
+            case "address":
+                address = readString();
+                break;
+            case "tags":
+                readArray(tags, () -> JsonAdaptedTag.toModelType(readString()));
+                break;
+            case "lessonList":
+                readArray(lessons, this::readLesson);
+                break;
+            case "paymentList":
+                readArray(payments, this::readPayment);
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+        return JsonAdaptedPerson.toModelType(type, name, phone, email, address, tags, lessons, payments);
+    }
+
+    private Lesson readLesson() throws IOException {
+        requireToken(JsonToken.START_OBJECT);
+
+        String subject = null;
+        String level = null;
+        String day = null;
+        String startTime = null;
+        String endTime = null;
+        String rate = null;
+        String studentName = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+            case "subject":
+                subject = readString();
+                break;
+            case "level":
+                level = readString();
+                break;
+            case "day":
+                day = readString();
+                break;
+            case "startTime":
+                startTime = readString();
+                break;
+            case "endTime":
+                endTime = readString();
+                break;
+            case "rate":
+                rate = readString();
+                break;
+            case "studentName":
+                studentName = readString();
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+        return JsonAdaptedLesson.toModelType(subject, level, day, startTime, endTime, rate, studentName);
+    }
+
+    private Payment readPayment() throws IOException, IllegalValueException {
+        requireToken(JsonToken.START_OBJECT);
+
+        String yearMonth = null;
+        String totalAmount = null;
+        String unpaidAmount = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+            case "yearMonth":
+                yearMonth = readString();
+                break;
+            case "totalAmount":
+                totalAmount = readString();
+                break;
+            case "unpaidAmount":
+                unpaidAmount = readString();
+                break;
+            default:
+                parser.skipChildren();
+                break;
+            }
+        }
+        return JsonAdaptedPayment.toModelType(yearMonth, totalAmount, unpaidAmount);
+    }
+
+    /**
+     * Reads the array at the current token into {@code elements}, one element at a time.
+     * A null array adds nothing.
+     */
+    private <T> void readArray(List<T> elements, ElementReader<? extends T> elementReader)
+            throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        requireToken(JsonToken.START_ARRAY);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            elements.add(elementReader.read());
+        }
+    }
+
+    /**
+     * Returns the scalar value at the current token as a string, or null if the value is null.
+     */
+    private String readString() throws IOException {
+        if (parser.getCurrentToken().isStructStart()) {
+            throw new JsonParseException(parser, "Expected a value but found " + parser.getCurrentToken());
+        }
+        return parser.getValueAsString();
+    }
+
+    private void requireToken(JsonToken expected) throws JsonParseException {
+        if (parser.getCurrentToken() != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + parser.getCurrentToken());
+        }
+    }
+
+    /**
+     * Reads one element of an array, starting at its first token.
+     */
+    @FunctionalInterface
+    private interface ElementReader<T> {
+        T read() throws IOException, IllegalValueException;
+    }
+}
@@ -3,7 +3,10 @@ package tutman.tuiniverse.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -12,7 +15,9 @@ import tutman.tuiniverse.commons.exceptions.DataLoadingException;
 import tutman.tuiniverse.commons.exceptions.IllegalValueException;
 import tutman.tuiniverse.commons.util.FileUtil;
 import tutman.tuiniverse.commons.util.JsonUtil;
+import tutman.tuiniverse.model.AddressBookChanges;
 import tutman.tuiniverse.model.ReadOnlyAddressBook;
+import tutman.tuiniverse.model.student.Student;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -45,14 +50,17 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
-
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        logger.info("JSON file " + filePath + " found.");
+
+        try (InputStream in = Files.newInputStream(filePath)) {
+            List<Student> persons = JsonAddressBookReader.readPersons(in);
+            return Optional.of(JsonSerializableAddressBook.toModelType(persons));
+        } catch (IOException e) {
+            logger.warning("Error reading from file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +81,48 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
+        writeAddressBook(new JsonSerializableAddressBook(addressBook), filePath);
+    }
+
+    @Override
+    public AddressBookSave prepareSave(ReadOnlyAddressBook addressBook, AddressBookChanges changes) {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+
+        return new CompleteSave(this, new JsonSerializableAddressBook(addressBook), filePath);
+    }
+
+    /**
+     * Writes {@code data}, the whole address book, to {@code filePath}.
+     */
+    void writeAddressBook(JsonSerializableAddressBook data, Path filePath) throws IOException {
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonUtil.saveJsonFile(data, filePath);
+    }
+
+    /**
+     * A save of the whole address book, converted for Jackson use when it was prepared.
+     */
+    private static class CompleteSave implements AddressBookSave {
+        private final JsonAddressBookStorage storage;
+        private final JsonSerializableAddressBook data;
+        private final Path filePath;
+
+        CompleteSave(JsonAddressBookStorage storage, JsonSerializableAddressBook data, Path filePath) {
+            this.storage = storage;
+            this.data = data;
+            this.filePath = filePath;
+        }
+
+        @Override
+        public void write() throws IOException {
+            storage.writeAddressBook(data, filePath);
+        }
+
+        @Override
+        public boolean isComplete() {
+            return true;
+        }
     }
 
 }
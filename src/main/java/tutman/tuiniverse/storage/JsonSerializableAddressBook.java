@@ -56,9 +56,21 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Student> modelPersons = new ArrayList<>();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Student person = jsonAdaptedPerson.toModelType();
+            modelPersons.add(jsonAdaptedPerson.toModelType());
+        }
+        return toModelType(modelPersons);
+    }
+
+    /**
+     * Builds the model's {@code AddressBook} object holding {@code persons}, in order, and their lessons.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook toModelType(List<Student> persons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        for (Student person : persons) {
             if (addressBook.hasPerson(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
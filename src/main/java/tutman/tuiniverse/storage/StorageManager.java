@@ -1,12 +1,16 @@
 package tutman.tuiniverse.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import tutman.tuiniverse.commons.core.Config;
 import tutman.tuiniverse.commons.core.LogsCenter;
 import tutman.tuiniverse.commons.exceptions.DataLoadingException;
+import tutman.tuiniverse.model.AddressBookChanges;
 import tutman.tuiniverse.model.ReadOnlyAddressBook;
 import tutman.tuiniverse.model.ReadOnlyUserPrefs;
 import tutman.tuiniverse.model.UserPrefs;
@@ -16,6 +20,8 @@ import tutman.tuiniverse.model.UserPrefs;
  */
 public class StorageManager implements Storage {
 
+    private static final String JSON_EXTENSION = ".json";
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
@@ -28,6 +34,42 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Returns the storage for the address book at {@code filePath}, in the format chosen by its extension and
+     * {@code config}.
+     * <p>
+     * A {@value BinaryAddressBookStorage#FILE_EXTENSION} file is stored in the binary snapshot format, and so is any
+     * other file if {@link Config#isAddressBookBinary()}, in which case the snapshot is kept next to it with the
+     * {@value BinaryAddressBookStorage#FILE_EXTENSION} extension instead. Either way, the json file of the same name is
+     * imported until the first snapshot is written. Other files are stored as json, with a journal if
+     * {@link Config#isAddressBookJournaled()}.
+     */
+    public static AddressBookStorage createAddressBookStorage(Path filePath, Config config) {
+        requireNonNull(filePath);
+        requireNonNull(config);
+
+        if (filePath.getFileName().toString().endsWith(BinaryAddressBookStorage.FILE_EXTENSION)) {
+            return new BinaryAddressBookStorage(filePath, withExtension(filePath, JSON_EXTENSION));
+        }
+        if (config.isAddressBookBinary()) {
+            return new BinaryAddressBookStorage(withExtension(filePath, BinaryAddressBookStorage.FILE_EXTENSION),
+                    filePath);
+        }
+        return config.isAddressBookJournaled()
+                ? new JournaledAddressBookStorage(filePath)
+                : new JsonAddressBookStorage(filePath);
+    }
+
+    /**
+     * Returns {@code filePath} with its extension, if any, replaced by {@code extension}.
+     */
+    private static Path withExtension(Path filePath, String extension) {
+        String fileName = filePath.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        String baseName = dot > 0 ? fileName.substring(0, dot) : fileName;
+        return filePath.resolveSibling(baseName + extension);
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -75,4 +117,16 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, AddressBookChanges changes)
+            throws IOException {
+        logger.fine("Attempting to save changes to data file: " + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.saveAddressBookChanges(addressBook, changes);
+    }
+
+    @Override
+    public AddressBookSave prepareSave(ReadOnlyAddressBook addressBook, AddressBookChanges changes) {
+        return addressBookStorage.prepareSave(addressBook, changes);
+    }
+
 }
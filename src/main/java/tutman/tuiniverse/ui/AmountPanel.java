@@ -2,11 +2,12 @@ package tutman.tuiniverse.ui;
 
 import java.util.logging.Logger;
 
-import javafx.beans.value.ObservableFloatValue;
+import javafx.beans.value.ObservableLongValue;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
 import tutman.tuiniverse.commons.core.LogsCenter;
+import tutman.tuiniverse.model.payment.Money;
 
 /**
  * Horizontal panel showing total to be earned and total unpaid.
@@ -23,7 +24,7 @@ public class AmountPanel extends UiPart<Region> {
     /**
      * Creates a {@code AmountPanel} with the given {@code TotalAmount} and {@code UnpaidAmount}.
      */
-    public AmountPanel(ObservableFloatValue totalEarningsObs, ObservableFloatValue totalUnpaidObs) {
+    public AmountPanel(ObservableLongValue totalEarningsObs, ObservableLongValue totalUnpaidObs) {
         super(FXML);
 
         setTotals(totalEarningsObs, totalUnpaidObs);
@@ -35,36 +36,36 @@ public class AmountPanel extends UiPart<Region> {
      * @param totalEarningsObs
      * @param totalUnpaidObs
      */
-    public void setTotals(ObservableFloatValue totalEarningsObs, ObservableFloatValue totalUnpaidObs) {
+    public void setTotals(ObservableLongValue totalEarningsObs, ObservableLongValue totalUnpaidObs) {
         setEarned(totalEarningsObs);
         setUnpaid(totalUnpaidObs);
     }
 
-    public void setEarned(ObservableFloatValue totalEarningsObs) {
-        totalEarned.setText(String.format("$%.2f", totalEarningsObs.get()));
+    public void setEarned(ObservableLongValue totalEarningsObs) {
+        totalEarned.setText("$" + Money.format(totalEarningsObs.get()));
         totalEarningsObs.addListener((obs, oldVal, newVal) -> {
-            totalEarned.setText(String.format("$%.2f", newVal.floatValue()));
+            totalEarned.setText("$" + Money.format(newVal.longValue()));
         });
     }
 
-    public void setUnpaid(ObservableFloatValue totalUnpaidObs) {
+    public void setUnpaid(ObservableLongValue totalUnpaidObs) {
         updateUnpaidLabel(totalUnpaidObs.get());
         totalUnpaidObs.addListener((obs, oldVal, newVal) -> {
-            updateUnpaidLabel(newVal.floatValue());
+            updateUnpaidLabel(newVal.longValue());
         });
     }
 
     /**
      * Updates label text and style depending on amount.
      *
-     * @param amount
+     * @param cents
      */
-    private void updateUnpaidLabel(float amount) {
-        totalUnpaid.setText(String.format("$%.2f", amount));
+    private void updateUnpaidLabel(long cents) {
+        totalUnpaid.setText("$" + Money.format(cents));
 
         totalUnpaid.getStyleClass().removeAll("unpaid", "paid"); // remove old state
 
-        if (Math.abs(amount) < 0.005) { // treat 0.00 as paid
+        if (cents == 0) { // treat 0.00 as paid
             totalUnpaid.getStyleClass().add("amount-unpaid-zero");
         } else {
             totalUnpaid.getStyleClass().add("amount-unpaid-high");
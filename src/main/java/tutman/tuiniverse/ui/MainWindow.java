@@ -2,6 +2,7 @@ package tutman.tuiniverse.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -131,6 +132,7 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -195,7 +197,7 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isShowingName()) {
                 lessonListPanel.toggleShowingStudentLesson(true);
                 lessonListPanel.updateLessonTitle(commandResult.getStudentName());
-                lessonListPanel.updateLessonList(logic.getFilteredLessonList());
+                lessonListPanel.updateLessonList(logic.getViewedLessonList());
             } else {
                 lessonListPanel.toggleShowingStudentLesson(false);
                 lessonListPanel.updateLessonTitle(DateTimeUtil.currentDay() + "'S SCHEDULE");
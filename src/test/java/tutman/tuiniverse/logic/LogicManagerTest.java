@@ -1,7 +1,9 @@
 package tutman.tuiniverse.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutman.tuiniverse.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static tutman.tuiniverse.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static tutman.tuiniverse.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -13,23 +15,27 @@ import static tutman.tuiniverse.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
-import javafx.beans.value.ObservableFloatValue;
+import javafx.beans.value.ObservableLongValue;
 import tutman.tuiniverse.logic.commands.AddCommand;
 import tutman.tuiniverse.logic.commands.CommandResult;
 import tutman.tuiniverse.logic.commands.ListCommand;
 import tutman.tuiniverse.logic.commands.exceptions.CommandException;
 import tutman.tuiniverse.logic.parser.exceptions.ParseException;
+import tutman.tuiniverse.model.AddressBookChanges;
 import tutman.tuiniverse.model.Model;
 import tutman.tuiniverse.model.ModelManager;
 import tutman.tuiniverse.model.ReadOnlyAddressBook;
 import tutman.tuiniverse.model.UserPrefs;
 import tutman.tuiniverse.model.student.Student;
+import tutman.tuiniverse.storage.AddressBookSave;
+import tutman.tuiniverse.storage.AddressBookSaver;
 import tutman.tuiniverse.storage.JsonAddressBookStorage;
 import tutman.tuiniverse.storage.JsonUserPrefsStorage;
 import tutman.tuiniverse.storage.StorageManager;
@@ -73,6 +79,17 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommand_addressBookNotSaved() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(addressBookPath));
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertTrue(Files.exists(addressBookPath));
+        assertFalse(model.hasUnsavedAddressBookChanges());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -93,11 +110,11 @@ public class LogicManagerTest {
     @Test
     public void totalProperties_delegatesToModel() {
         // Get references
-        ObservableFloatValue modelEarnings = model.totalEarningsProperty();
-        ObservableFloatValue logicEarnings = logic.totalEarningsProperty();
+        ObservableLongValue modelEarnings = model.totalEarningsProperty();
+        ObservableLongValue logicEarnings = logic.totalEarningsProperty();
 
-        ObservableFloatValue modelUnpaid = model.totalUnpaidProperty();
-        ObservableFloatValue logicUnpaid = logic.totalUnpaidProperty();
+        ObservableLongValue modelUnpaid = model.totalUnpaidProperty();
+        ObservableLongValue logicUnpaid = logic.totalUnpaidProperty();
 
         assertSame(modelEarnings, logicEarnings);
         assertSame(modelUnpaid, logicUnpaid);
@@ -105,17 +122,58 @@ public class LogicManagerTest {
 
     @Test
     public void totalProperties_reflectModelChanges() {
-        ObservableFloatValue earnings = logic.totalEarningsProperty();
-        ObservableFloatValue unpaid = logic.totalUnpaidProperty();
+        ObservableLongValue earnings = logic.totalEarningsProperty();
+        ObservableLongValue unpaid = logic.totalUnpaidProperty();
 
-        assertEquals(0.0f, earnings.get(), 1e-6);
-        assertEquals(0.0f, unpaid.get(), 1e-6);
+        assertEquals(0, earnings.get());
+        assertEquals(0, unpaid.get());
 
         Student s = new StudentStub("Carol", 120f, 10f);
         model.addPerson(s);
 
-        assertEquals(120f, earnings.get(), 1e-6);
-        assertEquals(10f, unpaid.get(), 1e-6);
+        assertEquals(12000, earnings.get());
+        assertEquals(1000, unpaid.get());
+    }
+
+    @Test
+    public void execute_backgroundSaveFailed_nextCommandSavesAgain() throws Exception {
+        Path addressBookPath = temporaryFolder.resolve("addressBook.json");
+        boolean[] isFailing = {true};
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(addressBookPath) {
+            @Override
+            public AddressBookSave prepareSave(ReadOnlyAddressBook addressBook, AddressBookChanges changes) {
+                if (!isFailing[0]) {
+                    return super.prepareSave(addressBook, changes);
+                }
+                return new AddressBookSave() {
+                    @Override
+                    public void write() throws IOException {
+                        throw DUMMY_IO_EXCEPTION;
+                    }
+
+                    @Override
+                    public boolean isComplete() {
+                        return true;
+                    }
+                };
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        AddressBookSaver saver = new AddressBookSaver();
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage), saver);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY);
+        assertThrows(IOException.class, saver::flush);
+
+        // nothing changes, but the failed save must still be written
+        isFailing[0] = false;
+        logic.execute(ListCommand.COMMAND_WORD);
+        saver.flush();
+
+        ReadOnlyAddressBook saved = addressBookStorage.readAddressBook().get();
+        assertEquals(model.getAddressBook().getPersonList(), saved.getPersonList());
+        assertFalse(model.hasUnsavedAddressBookChanges());
+        saver.close();
     }
 
     /**
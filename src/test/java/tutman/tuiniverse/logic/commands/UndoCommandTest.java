@@ -0,0 +1,48 @@
+package tutman.tuiniverse.logic.commands;
+
+import static tutman.tuiniverse.logic.commands.CommandTestUtil.assertCommandFailure;
+import static tutman.tuiniverse.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutman.tuiniverse.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tutman.tuiniverse.model.AddressBook;
+import tutman.tuiniverse.model.Model;
+import tutman.tuiniverse.model.ModelManager;
+import tutman.tuiniverse.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code UndoCommand} and {@code RedoCommand}.
+ */
+public class UndoCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_nothingToUndo_failure() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_nothingToRedo_failure() {
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_undoThenRedoClear_success() {
+        model.setAddressBook(new AddressBook());
+        model.commitAddressBook();
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        expectedModel.setAddressBook(new AddressBook());
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+}
@@ -39,6 +39,7 @@ public class ViewCommandTest {
         ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
 
         assertCommandSuccess(viewCommand, model, expectedMessage, expectedModel);
+        assertEquals(studentToViewLessons.getLessonList().getLessons(), model.getViewedLessonList());
     }
 
     @Test
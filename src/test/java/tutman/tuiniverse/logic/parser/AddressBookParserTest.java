@@ -26,6 +26,8 @@ import tutman.tuiniverse.logic.commands.ListOverdueCommand;
 import tutman.tuiniverse.logic.commands.ListPaidCommand;
 import tutman.tuiniverse.logic.commands.ListUnpaidCommand;
 import tutman.tuiniverse.logic.commands.PayCommand;
+import tutman.tuiniverse.logic.commands.RedoCommand;
+import tutman.tuiniverse.logic.commands.UndoCommand;
 import tutman.tuiniverse.logic.parser.exceptions.ParseException;
 import tutman.tuiniverse.model.student.NameContainsKeywordsPredicate;
 import tutman.tuiniverse.model.student.Student;
@@ -50,6 +52,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD + " 3") instanceof ClearCommand);
     }
 
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_delete() throws Exception {
         DeleteCommand command = (DeleteCommand) parser.parseCommand(
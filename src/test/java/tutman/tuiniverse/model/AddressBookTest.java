@@ -2,6 +2,7 @@ package tutman.tuiniverse.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutman.tuiniverse.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static tutman.tuiniverse.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -19,8 +20,10 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import tutman.tuiniverse.model.lesson.Lesson;
+import tutman.tuiniverse.model.lesson.LessonList;
 import tutman.tuiniverse.model.student.Student;
 import tutman.tuiniverse.model.student.exceptions.DuplicatePersonException;
+import tutman.tuiniverse.testutil.LessonBuilder;
 import tutman.tuiniverse.testutil.StudentBuilder;
 
 public class AddressBookTest {
@@ -84,6 +87,45 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void addPerson_withLessons_indexesOwnership() {
+        Lesson lesson = new LessonBuilder().build();
+        Student student = new StudentBuilder().withLessonList(new LessonList().addLesson(lesson)).build();
+        addressBook.addPerson(student);
+        addressBook.addLesson(lesson);
+
+        assertEquals(List.of(lesson), addressBook.getLessonsOf(student));
+        assertSame(student, addressBook.getOwnerOf(lesson).get());
+    }
+
+    @Test
+    public void setPerson_withLessons_transfersOwnership() {
+        Lesson lesson = new LessonBuilder().build();
+        Student student = new StudentBuilder().withLessonList(new LessonList().addLesson(lesson)).build();
+        addressBook.addPerson(student);
+        addressBook.addLesson(lesson);
+
+        Student editedStudent = new StudentBuilder(student).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setPerson(student, editedStudent);
+
+        assertTrue(addressBook.getLessonsOf(student).isEmpty());
+        assertEquals(List.of(lesson), addressBook.getLessonsOf(editedStudent));
+        assertSame(editedStudent, addressBook.getOwnerOf(lesson).get());
+    }
+
+    @Test
+    public void removeLesson_ownedLesson_removesOwnership() {
+        Lesson lesson = new LessonBuilder().build();
+        Student student = new StudentBuilder().withLessonList(new LessonList().addLesson(lesson)).build();
+        addressBook.addPerson(student);
+        addressBook.addLesson(lesson);
+
+        addressBook.removeLesson(lesson);
+
+        assertTrue(addressBook.getLessonsOf(student).isEmpty());
+        assertTrue(addressBook.getOwnerOf(lesson).isEmpty());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -22,10 +22,10 @@ import javafx.beans.value.ChangeListener;
 import tutman.tuiniverse.commons.core.GuiSettings;
 import tutman.tuiniverse.model.lesson.Lesson;
 import tutman.tuiniverse.model.lesson.LessonList;
+import tutman.tuiniverse.model.lesson.exceptions.DuplicateLessonException;
 import tutman.tuiniverse.model.student.NameContainsKeywordsPredicate;
 import tutman.tuiniverse.model.student.PaymentStatus;
 import tutman.tuiniverse.model.student.Student;
-import tutman.tuiniverse.model.student.StudentMatchesPaymentStatusPredicate;
 import tutman.tuiniverse.testutil.AddressBookBuilder;
 import tutman.tuiniverse.testutil.LessonBuilder;
 import tutman.tuiniverse.testutil.StudentBuilder;
@@ -234,65 +234,111 @@ public class ModelManagerTest {
         UserPrefs userPrefs = new UserPrefs();
 
         // different filteredList (by paymentStatus PAID)-> returns false
-        modelManager.updateFilteredPersonListByPaymentStatus(
-                new StudentMatchesPaymentStatusPredicate(PaymentStatus.UNPAID));
+        modelManager.updateFilteredPersonListByPaymentStatus(PaymentStatus.UNPAID);
         assertFalse(modelManager.equals(new ModelManager(addressBook, userPrefs)));
 
         // different filteredList (by paymentStatus PAID)-> returns false
-        modelManager.updateFilteredPersonListByPaymentStatus(
-                new StudentMatchesPaymentStatusPredicate(PaymentStatus.PAID));
+        modelManager.updateFilteredPersonListByPaymentStatus(PaymentStatus.PAID);
         assertFalse(modelManager.equals(new ModelManager(addressBook, userPrefs)));
 
         // different filteredList (by paymentStatus OVERDUE)-> returns false
-        modelManager.updateFilteredPersonListByPaymentStatus(
-                new StudentMatchesPaymentStatusPredicate(PaymentStatus.OVERDUE));
+        modelManager.updateFilteredPersonListByPaymentStatus(PaymentStatus.OVERDUE);
         assertFalse(modelManager.equals(new ModelManager(addressBook, userPrefs)));
     }
 
+    @Test
+    public void paymentStatusGroups_followStatusChanges() {
+        Student alicePaid = new StudentBuilder(ALICE).build();
+        alicePaid.setPaymentStatus(PaymentStatus.PAID);
+        Student bensonUnpaid = new StudentBuilder(BENSON).build();
+        bensonUnpaid.setPaymentStatus(PaymentStatus.UNPAID);
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(alicePaid).withPerson(bensonUnpaid).build(),
+                new UserPrefs());
+
+        modelManager.updateFilteredPersonListByPaymentStatus(PaymentStatus.UNPAID);
+        assertEquals(Arrays.asList(bensonUnpaid), modelManager.getFilteredPersonList());
+        assertEquals(1, modelManager.countPersonsWithPaymentStatus(PaymentStatus.PAID));
+        assertEquals(1, modelManager.countPersonsWithPaymentStatus(PaymentStatus.UNPAID));
+
+        // status changed in place, then the student is set again
+        bensonUnpaid.setPaymentStatus(PaymentStatus.PAID);
+        modelManager.setPerson(bensonUnpaid, bensonUnpaid);
+        assertEquals(2, modelManager.countPersonsWithPaymentStatus(PaymentStatus.PAID));
+        assertEquals(0, modelManager.countPersonsWithPaymentStatus(PaymentStatus.UNPAID));
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+    }
+
     @Test
     public void totals_initiallyZero() {
-        assertEquals(0.0f, modelManager.totalEarningsProperty().get(), 1e-6);
-        assertEquals(0.0f, modelManager.totalUnpaidProperty().get(), 1e-6);
+        assertEquals(0, modelManager.totalEarningsProperty().get());
+        assertEquals(0, modelManager.totalUnpaidProperty().get());
     }
 
     @Test
     public void totals_addPersonWithPayments_calculatesNewTotal() {
-        assertEquals(0f, modelManager.totalEarningsProperty().get(), 1e-6);
-        assertEquals(0f, modelManager.totalUnpaidProperty().get(), 1e-6);
+        assertEquals(0, modelManager.totalEarningsProperty().get());
+        assertEquals(0, modelManager.totalUnpaidProperty().get());
 
         // one student contributes total=300, unpaid=600
         Student s = new StudentStub("Alice", 300f, 600f);
         modelManager.addPerson(s);
 
-        assertEquals(300f, modelManager.totalEarningsProperty().get(), 1e-6);
-        assertEquals(600f, modelManager.totalUnpaidProperty().get(), 1e-6);
+        assertEquals(30000, modelManager.totalEarningsProperty().get());
+        assertEquals(60000, modelManager.totalUnpaidProperty().get());
     }
 
     @Test
     public void totals_editPersonPayment_calculatesNewTotal() {
         Student before = new StudentStub("Bob", 100f, 40f);
         modelManager.addPerson(before);
-        assertEquals(100f, modelManager.totalEarningsProperty().get(), 1e-6);
-        assertEquals(40f, modelManager.totalUnpaidProperty().get(), 1e-6);
+        assertEquals(10000, modelManager.totalEarningsProperty().get());
+        assertEquals(4000, modelManager.totalUnpaidProperty().get());
 
         Student after = new StudentStub("Bob", 200f, 0f);
         modelManager.setPerson(before, after);
 
         assertEquals(1, modelManager.getAddressBook().getPersonList().size());
-        assertEquals(200f, modelManager.totalEarningsProperty().get(), 1e-6);
-        assertEquals(0f, modelManager.totalUnpaidProperty().get(), 1e-6);
+        assertEquals(20000, modelManager.totalEarningsProperty().get());
+        assertEquals(0, modelManager.totalUnpaidProperty().get());
     }
 
     @Test
     public void totals_deletePerson_goesToZero() {
         Student s = new StudentStub("Carol", 120f, 10f);
         modelManager.addPerson(s);
-        assertEquals(120f, modelManager.totalEarningsProperty().get(), 1e-6);
-        assertEquals(10f, modelManager.totalUnpaidProperty().get(), 1e-6);
+        assertEquals(12000, modelManager.totalEarningsProperty().get());
+        assertEquals(1000, modelManager.totalUnpaidProperty().get());
 
         modelManager.deletePerson(s);
-        assertEquals(0f, modelManager.totalEarningsProperty().get(), 1e-6);
-        assertEquals(0f, modelManager.totalUnpaidProperty().get(), 1e-6);
+        assertEquals(0, modelManager.totalEarningsProperty().get());
+        assertEquals(0, modelManager.totalUnpaidProperty().get());
+    }
+
+    @Test
+    public void totals_deleteOneOfManyPersons_subtractsOnlyItsContribution() {
+        Student alice = new StudentStub("Alice", 300f, 600f);
+        Student bob = new StudentStub("Bob", 100f, 40f);
+        modelManager.addPerson(alice);
+        modelManager.addPerson(bob);
+        assertEquals(40000, modelManager.totalEarningsProperty().get());
+        assertEquals(64000, modelManager.totalUnpaidProperty().get());
+
+        modelManager.deletePerson(alice);
+        assertEquals(10000, modelManager.totalEarningsProperty().get());
+        assertEquals(4000, modelManager.totalUnpaidProperty().get());
+    }
+
+    @Test
+    public void totals_setAddressBook_recountsAllPersons() {
+        modelManager.addPerson(new StudentStub("Alice", 300f, 600f));
+
+        AddressBook replacement = new AddressBookBuilder()
+                .withPerson(new StudentStub("Bob", 100f, 40f))
+                .withPerson(new StudentStub("Carol", 120f, 10f)).build();
+        modelManager.setAddressBook(replacement);
+
+        assertEquals(22000, modelManager.totalEarningsProperty().get());
+        assertEquals(5000, modelManager.totalUnpaidProperty().get());
     }
 
     @Test
@@ -335,22 +381,185 @@ public class ModelManagerTest {
 
     @Test
     public void totals_changePayments_firesListeners() {
-        float[] earned = new float[]{Float.NaN};
-        float[] unpaid = new float[]{Float.NaN};
-        ChangeListener<Number> earnListener = (obs, o, n) -> earned[0] = n.floatValue();
-        ChangeListener<Number> unpaidListener = (obs, o, n) -> unpaid[0] = n.floatValue();
+        long[] earned = new long[]{-1};
+        long[] unpaid = new long[]{-1};
+        ChangeListener<Number> earnListener = (obs, o, n) -> earned[0] = n.longValue();
+        ChangeListener<Number> unpaidListener = (obs, o, n) -> unpaid[0] = n.longValue();
 
         modelManager.totalEarningsProperty().addListener(earnListener);
         modelManager.totalUnpaidProperty().addListener(unpaidListener);
 
         modelManager.addPerson(new StudentStub("Dan", 55.5f, 12.3f));
 
-        assertEquals(55.5f, modelManager.totalEarningsProperty().get(), 1e-6);
-        assertEquals(12.3f, modelManager.totalUnpaidProperty().get(), 1e-6);
-        assertEquals(55.5f, earned[0], 1e-6);
-        assertEquals(12.3f, unpaid[0], 1e-6);
+        assertEquals(5550, modelManager.totalEarningsProperty().get());
+        assertEquals(1230, modelManager.totalUnpaidProperty().get());
+        assertEquals(5550, earned[0]);
+        assertEquals(1230, unpaid[0]);
 
         modelManager.totalEarningsProperty().removeListener(earnListener);
         modelManager.totalUnpaidProperty().removeListener(unpaidListener);
     }
+
+    @Test
+    public void commitBatch_withoutBegin_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> modelManager.commitBatch());
+    }
+
+    @Test
+    public void batch_defersTotalsAndFilterUntilOutermostCommit() {
+        long[] earned = new long[]{-1};
+        ChangeListener<Number> earnListener = (obs, o, n) -> earned[0] = n.longValue();
+        modelManager.totalEarningsProperty().addListener(earnListener);
+
+        modelManager.beginBatch();
+        modelManager.beginBatch();
+        modelManager.addPerson(new StudentStub("Alice", 300f, 600f));
+        modelManager.addPerson(new StudentStub("Bob", 100f, 40f));
+        modelManager.updateFilteredPersonList(unused -> false);
+        modelManager.commitBatch();
+
+        // still inside the outer batch
+        assertEquals(-1, earned[0]);
+        assertEquals(0, modelManager.totalEarningsProperty().get());
+        assertEquals(2, modelManager.getFilteredPersonList().size());
+
+        modelManager.commitBatch();
+        assertEquals(40000, earned[0]);
+        assertEquals(64000, modelManager.totalUnpaidProperty().get());
+        assertEquals(0, modelManager.getFilteredPersonList().size());
+
+        modelManager.totalEarningsProperty().removeListener(earnListener);
+    }
+
+    @Test
+    public void deletePerson_withLessons_removesAllLessons() {
+        Student s = new StudentBuilder().withName("Alice").withLessonList(new LessonList()).build();
+        Lesson l1 = new LessonBuilder().withSubject("Math").withDay("1")
+                .withLessonTime("10:00", "11:00").build();
+        Lesson l2 = new LessonBuilder().withSubject("English").withDay("2")
+                .withLessonTime("12:00", "13:00").build();
+
+        modelManager.addPerson(s);
+        modelManager.addLesson(s, l1);
+        Student withOneLesson = modelManager.getAddressBook().getPersonList().get(0);
+        modelManager.addLesson(withOneLesson, l2);
+        Student withTwoLessons = modelManager.getAddressBook().getPersonList().get(0);
+
+        modelManager.deletePerson(withTwoLessons);
+
+        assertEquals(0, modelManager.getAddressBook().getPersonList().size());
+        assertEquals(0, modelManager.getAddressBook().getLessonList().size());
+        assertEquals(0, modelManager.totalEarningsProperty().get());
+    }
+
+    @Test
+    public void undoRedo_deletePersonWithLessons_restoresPersonLessonsAndTotals() {
+        Student s = new StudentBuilder().withName("Alice").withLessonList(new LessonList()).build();
+        Lesson lesson = new LessonBuilder().withSubject("Math").withDay("1")
+                .withLessonTime("10:00", "11:00").build();
+        modelManager.addPerson(s);
+        modelManager.addLesson(s, lesson);
+        modelManager.commitAddressBook();
+        Student withLesson = modelManager.getAddressBook().getPersonList().get(0);
+        long earned = modelManager.totalEarningsProperty().get();
+
+        modelManager.deletePerson(withLesson);
+        modelManager.commitAddressBook();
+        assertTrue(modelManager.canUndoAddressBook());
+
+        modelManager.undoAddressBook();
+        assertEquals(Arrays.asList(withLesson), modelManager.getAddressBook().getPersonList());
+        assertEquals(Arrays.asList(lesson), withLesson.getLessonList().getLessons());
+        assertEquals(Arrays.asList(lesson), modelManager.getAddressBook().getLessonList());
+        assertEquals(withLesson, lesson.getStudent());
+        assertEquals(earned, modelManager.totalEarningsProperty().get());
+        assertTrue(modelManager.canRedoAddressBook());
+
+        modelManager.redoAddressBook();
+        assertEquals(0, modelManager.getAddressBook().getPersonList().size());
+        assertEquals(0, modelManager.getAddressBook().getLessonList().size());
+        assertEquals(0, modelManager.totalEarningsProperty().get());
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void rollbackAddressBook_setLessonFailedPartWay_changesDiscarded() {
+        Student alice = new StudentBuilder().withName("Alice").withLessonList(new LessonList()).build();
+        Student bob = new StudentBuilder(BENSON).withLessonList(new LessonList()).build();
+        Lesson aliceLesson = new LessonBuilder().withSubject("Math").withDay("1")
+                .withLessonTime("10:00", "11:00").build();
+        Lesson bobLesson = new LessonBuilder().withSubject("English").withDay("1")
+                .withLessonTime("12:00", "13:00").build();
+        modelManager.addPerson(alice);
+        modelManager.addPerson(bob);
+        modelManager.addLesson(alice, aliceLesson);
+        modelManager.addLesson(modelManager.getAddressBook().getPersonList().get(1), bobLesson);
+        modelManager.commitAddressBook();
+        Student withLesson = modelManager.getAddressBook().getPersonList().get(0);
+        long earned = modelManager.totalEarningsProperty().get();
+
+        // fits the student's own lessons, but clashes with the other student's lesson
+        Lesson clashing = new LessonBuilder(aliceLesson).withLessonTime("12:00", "13:00").build();
+        assertThrows(DuplicateLessonException.class, () -> modelManager.setLesson(withLesson, aliceLesson, clashing));
+        modelManager.rollbackAddressBook();
+
+        assertEquals(Arrays.asList(aliceLesson), withLesson.getLessonList().getLessons());
+        assertEquals(earned, modelManager.totalEarningsProperty().get());
+
+        // the next version only holds the next change
+        modelManager.addPerson(CARL);
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+        assertEquals(2, modelManager.getAddressBook().getPersonList().size());
+        assertEquals(Arrays.asList(aliceLesson), withLesson.getLessonList().getLessons());
+    }
+
+    @Test
+    public void undo_setAddressBook_restoresPreviousData() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        modelManager.setAddressBook(addressBook);
+        modelManager.commitAddressBook();
+
+        modelManager.setAddressBook(new AddressBook());
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+
+        assertEquals(addressBook, modelManager.getAddressBook());
+        assertEquals(2, modelManager.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void commitAddressBook_afterUndo_discardsRedo() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+        assertFalse(modelManager.canRedoAddressBook());
+        assertThrows(IllegalStateException.class, () -> modelManager.redoAddressBook());
+    }
+
+    @Test
+    public void commitAddressBook_noChanges_recordsNothing() {
+        modelManager.commitAddressBook();
+        assertFalse(modelManager.canUndoAddressBook());
+        assertThrows(IllegalStateException.class, () -> modelManager.undoAddressBook());
+    }
+
+    @Test
+    public void commitAddressBook_beyondHistoryDepth_forgetsOldestVersions() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(1);
+        modelManager = new ModelManager(new AddressBook(), userPrefs);
+
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+
+        modelManager.undoAddressBook();
+        assertFalse(modelManager.canUndoAddressBook());
+        assertEquals(Arrays.asList(ALICE), modelManager.getAddressBook().getPersonList());
+    }
 }
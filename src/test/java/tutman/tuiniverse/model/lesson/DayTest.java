@@ -3,6 +3,7 @@ package tutman.tuiniverse.model.lesson;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutman.tuiniverse.testutil.Assert.assertThrows;
 
@@ -28,6 +29,16 @@ public class DayTest {
         }
     }
 
+    @Test
+    public void of_sameDay_returnsSharedInstance() {
+        assertSame(Day.of(2), Day.of(" tuesday "));
+        assertSame(Day.of(2), Day.of(DayOfWeek.TUESDAY));
+        assertEquals(new Day(2), Day.of(2));
+        assertThrows(IllegalArgumentException.class, () -> Day.of(0));
+        assertThrows(IllegalArgumentException.class, () -> Day.of(10));
+        assertThrows(IllegalArgumentException.class, () -> Day.of("Funday"));
+    }
+
     @Test
     public void isValidDay_variousInputs() {
         for (int i = 1; i <= 7; i++) {
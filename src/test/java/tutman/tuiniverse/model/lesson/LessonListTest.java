@@ -266,27 +266,27 @@ public class LessonListTest {
     }
 
     @Test
-    @DisplayName("getTotalAmountEarned = 0 for no lessons")
+    @DisplayName("getTotalCentsEarned = 0 for no lessons")
     public void getTotalAmount_noLessons_zero() {
         LessonList list = new LessonList();
-        float total = list.getTotalAmountEarned(YearMonth.of(2025, 10));
-        assertEquals(0f, total, 1e-6);
+        long total = list.getTotalCentsEarned(YearMonth.of(2025, 10));
+        assertEquals(0, total);
     }
 
     @Test
-    @DisplayName("getTotalAmountEarned for single lesson matches daysInMonth * perLessonAmount")
+    @DisplayName("getTotalCentsEarned for single lesson matches daysInMonth * perLessonAmount")
     public void getTotalAmount_singleLesson_correct() {
         LessonList list = new LessonList();
         list.addLesson(Y1_PHYSICS);
 
         YearMonth ym = YearMonth.of(2025, 10);
         int days = DateTimeUtil.countDaysOfWeekInMonth(ym, Y1_PHYSICS.getDay());
-        float expected = days * Y1_PHYSICS.getAmountEarned(); // use model’s own per-lesson amount
-        assertEquals(expected, list.getTotalAmountEarned(ym), 1e-5);
+        long expected = days * Y1_PHYSICS.getAmountEarnedCents(); // use model’s own per-lesson amount
+        assertEquals(expected, list.getTotalCentsEarned(ym));
     }
 
     @Test
-    @DisplayName("getTotalAmountEarned sums across multiple lessons on different days/rates")
+    @DisplayName("getTotalCentsEarned sums across multiple lessons on different days/rates")
     public void getTotalAmount_multipleLessons_sumOfAmounts() {
         LessonList list = new LessonList();
 
@@ -300,9 +300,9 @@ public class LessonListTest {
         int monCount = DateTimeUtil.countDaysOfWeekInMonth(ym, mon.getDay());
         int wedCount = DateTimeUtil.countDaysOfWeekInMonth(ym, wed.getDay());
 
-        float expected = monCount * mon.getAmountEarned()
-                + wedCount * wed.getAmountEarned();
+        long expected = monCount * mon.getAmountEarnedCents()
+                + wedCount * wed.getAmountEarnedCents();
 
-        assertEquals(expected, list.getTotalAmountEarned(ym), 1e-5);
+        assertEquals(expected, list.getTotalCentsEarned(ym));
     }
 }
@@ -0,0 +1,130 @@
+package tutman.tuiniverse.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutman.tuiniverse.testutil.Assert.assertThrows;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tutman.tuiniverse.testutil.LessonBuilder;
+
+public class LessonScheduleTest {
+    private static final Lesson MONDAY_MORNING = new LessonBuilder().withDay("1")
+            .withLessonTime("10:00", "12:00").build();
+    private static final Lesson MONDAY_LONG = new LessonBuilder().withDay("1").withSubject("English")
+            .withLessonTime("08:00", "14:00").build();
+
+    private LessonSchedule schedule;
+
+    @BeforeEach
+    public void setUp() {
+        schedule = new LessonSchedule();
+    }
+
+    @Test
+    public void hasTimeClash_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> schedule.hasTimeClash(null));
+    }
+
+    @Test
+    public void hasTimeClash_emptySchedule_returnsFalse() {
+        assertFalse(schedule.hasTimeClash(MONDAY_MORNING));
+    }
+
+    @Test
+    public void hasTimeClash_overlappingLessonOnSameDay_returnsTrue() {
+        schedule.add(MONDAY_MORNING);
+        Lesson overlapping = new LessonBuilder().withDay("1").withSubject("Chemistry")
+                .withLessonTime("11:00", "13:00").build();
+        assertTrue(schedule.hasTimeClash(overlapping));
+    }
+
+    @Test
+    public void hasTimeClash_sameTimeOnDifferentDay_returnsFalse() {
+        schedule.add(MONDAY_MORNING);
+        assertFalse(schedule.hasTimeClash(new LessonBuilder(MONDAY_MORNING).withDay("2").build()));
+    }
+
+    @Test
+    public void hasTimeClash_adjacentLessons_returnsFalse() {
+        schedule.add(MONDAY_MORNING);
+        Lesson before = new LessonBuilder().withDay("1").withLessonTime("08:00", "10:00").build();
+        Lesson after = new LessonBuilder().withDay("1").withLessonTime("12:00", "14:00").build();
+        assertFalse(schedule.hasTimeClash(before));
+        assertFalse(schedule.hasTimeClash(after));
+    }
+
+    @Test
+    public void hasTimeClash_lessonStartingWellBeforeQuery_returnsTrue() {
+        // a long lesson that started hours earlier must still be found
+        schedule.addAll(Arrays.asList(MONDAY_LONG));
+        Lesson afternoonStart = new LessonBuilder().withDay("1").withLessonTime("13:00", "15:00").build();
+        assertTrue(schedule.hasTimeClash(afternoonStart));
+    }
+
+    @Test
+    public void remove_longLesson_noLongerClashes() {
+        schedule.add(MONDAY_LONG);
+        schedule.remove(MONDAY_LONG);
+        Lesson afternoonStart = new LessonBuilder().withDay("1").withLessonTime("13:00", "15:00").build();
+        assertFalse(schedule.hasTimeClash(afternoonStart));
+    }
+
+    @Test
+    public void hasTimeClash_onlyLaterNeighbourClashes_returnsTrue() {
+        Lesson early = new LessonBuilder().withDay("1").withLessonTime("06:00", "07:00").build();
+        schedule.addAll(Arrays.asList(early, MONDAY_MORNING));
+        Lesson spanning = new LessonBuilder().withDay("1").withSubject("Chemistry")
+                .withLessonTime("07:30", "10:30").build();
+        assertTrue(schedule.hasTimeClash(spanning));
+    }
+
+    @Test
+    public void replace_movesLessonToNewDay() {
+        schedule.add(MONDAY_MORNING);
+        Lesson tuesday = new LessonBuilder(MONDAY_MORNING).withDay("2").build();
+        schedule.replace(MONDAY_MORNING, tuesday);
+        assertFalse(schedule.hasTimeClash(MONDAY_MORNING));
+        assertTrue(schedule.hasTimeClash(tuesday));
+    }
+
+    @Test
+    public void hasTimeClashExcludingTargetLesson_onlyClashIsTarget_returnsFalse() {
+        schedule.add(MONDAY_MORNING);
+        Lesson edited = new LessonBuilder(MONDAY_MORNING).withLessonTime("11:00", "13:00").build();
+        assertFalse(schedule.hasTimeClashExcludingTargetLesson(edited, MONDAY_MORNING));
+    }
+
+    @Test
+    public void hasTimeClashExcludingTargetLesson_otherLessonClashes_returnsTrue() {
+        schedule.add(MONDAY_MORNING);
+        schedule.add(MONDAY_LONG);
+        Lesson edited = new LessonBuilder(MONDAY_MORNING).withLessonTime("11:00", "13:00").build();
+        assertTrue(schedule.hasTimeClashExcludingTargetLesson(edited, MONDAY_MORNING));
+    }
+
+    @Test
+    public void clear_removesAllLessons() {
+        schedule.add(MONDAY_MORNING);
+        schedule.clear();
+        assertFalse(schedule.hasTimeClash(MONDAY_MORNING));
+    }
+
+    @Test
+    public void getLessonsOn_notObservable_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> schedule.getLessonsOn(DayOfWeek.MONDAY));
+    }
+
+    @Test
+    public void getLessonsOn_observable_sortedByStartTime() {
+        LessonSchedule observableSchedule = new LessonSchedule(true);
+        Lesson afternoon = new LessonBuilder(MONDAY_MORNING).withLessonTime("13:00", "14:00").build();
+        observableSchedule.setAll(Arrays.asList(afternoon, MONDAY_MORNING));
+        assertEquals(Arrays.asList(MONDAY_MORNING, afternoon), observableSchedule.getLessonsOn(DayOfWeek.MONDAY));
+    }
+}
@@ -222,5 +222,14 @@ public class LessonTest {
         assertNotEquals(l1.hashCode(), l2.hashCode());
         assertNotEquals(l1.hashCode(), l3.hashCode());
     }
-}
 
+    @Test
+    public void hashcode_equalLessons_sameHashCode() {
+        Lesson lesson = new LessonBuilder().withRate("40").build();
+        Lesson otherRate = new LessonBuilder().withRate("55").build();
+        otherRate.addStudent(ALICE);
+
+        assertEquals(lesson, otherRate);
+        assertEquals(lesson.hashCode(), otherRate.hashCode());
+    }
+}
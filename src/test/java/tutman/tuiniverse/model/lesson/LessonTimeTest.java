@@ -0,0 +1,79 @@
+package tutman.tuiniverse.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutman.tuiniverse.testutil.Assert.assertThrows;
+
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+import tutman.tuiniverse.testutil.LessonBuilder;
+
+public class LessonTimeTest {
+
+    private final LessonTime morning = LessonTime.ofLessonTime("09:00", "10:30");
+
+    @Test
+    public void ofLessonTime_invalidTimes_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> LessonTime.ofLessonTime("10:00", "09:00"));
+        assertThrows(IllegalArgumentException.class, () -> LessonTime.ofLessonTime("24:00", "25:00"));
+    }
+
+    @Test
+    public void ofLessonTime_equalTimes_returnsSharedInstance() {
+        assertSame(morning, LessonTime.ofLessonTime("09:00", "10:30"));
+    }
+
+    @Test
+    public void getters_unpackKey() {
+        assertEquals(540, morning.getStartMinute());
+        assertEquals(630, morning.getEndMinute());
+        assertEquals(LocalTime.of(9, 0), morning.getStart());
+        assertEquals(LocalTime.of(10, 30), morning.getEnd());
+        assertEquals(90, morning.getDurationMinutes());
+        assertEquals("09:00 - 10:30", morning.toString());
+    }
+
+    @Test
+    public void hasTimeClash() {
+        // overlapping
+        assertTrue(morning.hasTimeClash(LessonTime.ofLessonTime("10:00", "11:00")));
+        assertTrue(morning.hasTimeClash(LessonTime.ofLessonTime("09:15", "09:45")));
+
+        // touching or apart
+        assertFalse(morning.hasTimeClash(LessonTime.ofLessonTime("10:30", "11:00")));
+        assertFalse(morning.hasTimeClash(LessonTime.ofLessonTime("08:00", "09:00")));
+        assertFalse(morning.hasTimeClash(LessonTime.ofLessonTime("23:00", "23:59")));
+    }
+
+    @Test
+    public void isClash_slotKeysOnDifferentDays_returnsFalse() {
+        Lesson monday = new LessonBuilder().withDay("1").withLessonTime("09:00", "10:30").build();
+        Lesson sameTimeMonday = new LessonBuilder().withSubject("English").withDay("1")
+                .withLessonTime("10:00", "11:00").build();
+        Lesson tuesday = new LessonBuilder().withDay("2").withLessonTime("09:00", "10:30").build();
+
+        assertTrue(LessonTime.isClash(monday.getSlotKey(), sameTimeMonday.getSlotKey()));
+        assertFalse(LessonTime.isClash(monday.getSlotKey(), tuesday.getSlotKey()));
+        assertNotEquals(monday.getSlotKey(), tuesday.getSlotKey());
+    }
+
+    @Test
+    public void compareTo_comparesStartTimesOnly() {
+        assertEquals(0, morning.compareTo(LessonTime.ofLessonTime("09:00", "12:00")));
+        assertTrue(morning.compareTo(LessonTime.ofLessonTime("09:01", "09:30")) < 0);
+        assertTrue(morning.compareTo(LessonTime.ofLessonTime("08:59", "09:30")) > 0);
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(morning.equals(LessonTime.ofLessonTime("09:00", "10:30")));
+        assertFalse(morning.equals(LessonTime.ofLessonTime("09:00", "10:31")));
+        assertFalse(morning.equals(null));
+        assertNotEquals(morning.hashCode(), LessonTime.ofLessonTime("08:00", "10:30").hashCode());
+    }
+}
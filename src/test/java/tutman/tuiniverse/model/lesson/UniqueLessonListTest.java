@@ -1,5 +1,7 @@
 package tutman.tuiniverse.model.lesson;
 
+import static java.time.DayOfWeek.MONDAY;
+import static java.time.DayOfWeek.TUESDAY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -16,6 +18,7 @@ import org.junit.jupiter.api.Test;
 
 import tutman.tuiniverse.model.lesson.exceptions.DuplicateLessonException;
 import tutman.tuiniverse.model.lesson.exceptions.LessonNotFoundException;
+import tutman.tuiniverse.testutil.LessonBuilder;
 
 public class UniqueLessonListTest {
     private UniqueLessonList uniqueLessonList;
@@ -41,6 +44,13 @@ public class UniqueLessonListTest {
         assertTrue(uniqueLessonList.contains(Y3_MATH));
     }
 
+    @Test
+    public void contains_lessonWithSameIdentityFieldsInList_returnsTrue() {
+        uniqueLessonList.add(Y3_MATH);
+        Lesson editedMath = new LessonBuilder(Y3_MATH).withRate("99").build();
+        assertTrue(uniqueLessonList.contains(editedMath));
+    }
+
     @Test
     public void add_nullLesson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueLessonList.add(null));
@@ -149,4 +159,28 @@ public class UniqueLessonListTest {
         assertThrows(UnsupportedOperationException.class, () -> uniqueLessonList.asUnmodifiableObservableList()
                                                                                 .remove(0));
     }
+
+    @Test
+    public void asUnmodifiableObservableListOfDay_keepsLessonsSortedByStartTime() {
+        Lesson late = new LessonBuilder().withDay("1").withLessonTime("14:00", "15:00").build();
+        Lesson early = new LessonBuilder().withDay("1").withLessonTime("08:00", "09:00")
+                .withSubject("Physics").build();
+        Lesson middle = new LessonBuilder().withDay("1").withLessonTime("10:00", "11:00")
+                .withSubject("Biology").build();
+        Lesson tuesday = new LessonBuilder().withDay("2").withLessonTime("09:00", "10:00").build();
+
+        uniqueLessonList.setLessons(Arrays.asList(late, tuesday, early));
+        uniqueLessonList.add(middle);
+        assertEquals(Arrays.asList(early, middle, late), uniqueLessonList.asUnmodifiableObservableList(MONDAY));
+        assertEquals(List.of(tuesday), uniqueLessonList.asUnmodifiableObservableList(TUESDAY));
+
+        // moved to another day
+        Lesson movedEarly = new LessonBuilder(early).withDay("2").withLessonTime("11:00", "12:00").build();
+        uniqueLessonList.setLesson(early, movedEarly);
+        assertEquals(Arrays.asList(middle, late), uniqueLessonList.asUnmodifiableObservableList(MONDAY));
+        assertEquals(Arrays.asList(tuesday, movedEarly), uniqueLessonList.asUnmodifiableObservableList(TUESDAY));
+
+        uniqueLessonList.remove(late);
+        assertEquals(List.of(middle), uniqueLessonList.asUnmodifiableObservableList(MONDAY));
+    }
 }
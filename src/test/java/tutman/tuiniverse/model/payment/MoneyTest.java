@@ -0,0 +1,55 @@
+package tutman.tuiniverse.model.payment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutman.tuiniverse.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class MoneyTest {
+
+    @Test
+    public void parseCents_validDollars_returnsExactCents() {
+        assertEquals(0, Money.parseCents("0"));
+        assertEquals(3000, Money.parseCents("30"));
+        assertEquals(1250, Money.parseCents("12.5"));
+        assertEquals(1234, Money.parseCents("12.34"));
+        assertEquals(10, Money.parseCents("0.1"));
+    }
+
+    @Test
+    public void parseCents_moreThanTwoDecimals_roundsHalfUp() {
+        assertEquals(1235, Money.parseCents("12.345"));
+        assertEquals(1234, Money.parseCents("12.3449"));
+    }
+
+    @Test
+    public void parseCents_invalidDollars_throwsNumberFormatException() {
+        assertThrows(NumberFormatException.class, () -> Money.parseCents("abc"));
+        assertThrows(NumberFormatException.class, () -> Money.parseCents("NaN"));
+        assertThrows(NumberFormatException.class, () -> Money.parseCents("1e30"));
+    }
+
+    @Test
+    public void toCents_floatDollars_roundsToNearestCent() {
+        assertEquals(10, Money.toCents(0.1f));
+        assertEquals(5550, Money.toCents(55.5f));
+        assertEquals(1230, Money.toCents(12.3f));
+    }
+
+    @Test
+    public void format_cents_twoDecimalPlaces() {
+        assertEquals("0.00", Money.format(0));
+        assertEquals("0.05", Money.format(5));
+        assertEquals("12.30", Money.format(1230));
+        assertEquals("1000000.00", Money.format(100000000));
+    }
+
+    @Test
+    public void sumOfManySmallAmounts_isExact() {
+        long total = 0;
+        for (int i = 0; i < 1000; i++) {
+            total += Money.parseCents("0.10");
+        }
+        assertEquals("100.00", Money.format(total));
+    }
+}
@@ -81,6 +81,17 @@ public class PaymentListTest {
         assertEquals(jan25Paid(), pl.getPaymentByIndex(1));
     }
 
+    @Test
+    public void getPaymentByIndex_afterEarlierMonthAdded_indexesShifted() throws PaymentException {
+        PaymentList pl = new PaymentList(feb25Unpaid());
+        assertEquals(feb25Unpaid(), pl.getPaymentByIndex(1));
+
+        pl.addPaymentIfAbsent(jan25Paid());
+        assertEquals(jan25Paid(), pl.getPaymentByIndex(1));
+        assertEquals(feb25Unpaid(), pl.getPaymentByIndex(2));
+        assertThrows(PaymentException.class, () -> pl.getPaymentByIndex(3));
+    }
+
     @Test
     public void getPaymentByMonth_validIndex_success() throws PaymentException {
         PaymentList pl = new PaymentList(sampleArrayList());
@@ -169,10 +180,10 @@ public class PaymentListTest {
         Payment p = new PaymentBuilder().withYearMonth(ym.toString()).withTotalAmount(0f).build();
         PaymentList pl = new PaymentList(p);
 
-        pl.updateExistingPayment(ym, 2600.00f);
+        pl.updateExistingPayment(ym, 260000);
 
         Payment pp = pl.getPaymentByMonth(ym);
-        assertEquals(2600.00f, pp.getTotalAmountFloat(), 1e-4, "totalAmount should update");
+        assertEquals(260000, pp.getTotalAmountCents(), "totalAmount should update");
         assertFalse(p.isPaid(), "payment must be marked unpaid after updateExistingPayment");
     }
 
@@ -184,7 +195,7 @@ public class PaymentListTest {
 
         assertEquals(Status.PAID, pl.getStatus(), "precondition: list status starts as PAID");
 
-        pl.updateExistingPayment(ym, 100f);
+        pl.updateExistingPayment(ym, 10000);
 
         assertEquals(Status.UNPAID, pl.getStatus(),
                 "after making target month unpaid, aggregate status should be UNPAID");
@@ -200,15 +211,15 @@ public class PaymentListTest {
 
         PaymentList pl = new PaymentList(new ArrayList<>(List.of(pOct, pNov)));
 
-        pl.updateExistingPayment(oct, 600f);
+        pl.updateExistingPayment(oct, 60000);
 
         Payment paymentOct = pl.getPaymentByMonth(oct);
         Payment paymentNov = pl.getPaymentByMonth(nov);
 
-        assertEquals(600f, paymentOct.getTotalAmountFloat(), 1e-4);
+        assertEquals(60000, paymentOct.getTotalAmountCents());
         assertFalse(pOct.isPaid(), "Target month should be set to unpaid");
 
-        assertEquals(750f, paymentNov.getTotalAmountFloat(), 1e-4,
+        assertEquals(75000, paymentNov.getTotalAmountCents(),
                 "Other months' amounts must not change");
     }
 
@@ -220,7 +231,7 @@ public class PaymentListTest {
         PaymentList pl = new PaymentList(p);
 
         assertThrows(PaymentException.class, () ->
-                        pl.updateExistingPayment(ym, 123f),
+                        pl.updateExistingPayment(ym, 12300),
                 "should throw when target month is absent");
     }
 
@@ -353,7 +364,7 @@ public class PaymentListTest {
         // Now Feb should be PAID with new amount; both months paid => PAID status and null earliest
         Payment feb = pl.getPaymentByMonth(YearMonth.of(2025, 2));
         assertTrue(feb.isPaid());
-        assertEquals(321.0f, feb.getTotalAmountFloat(), 1e-6);
+        assertEquals(32100, feb.getTotalAmountCents());
 
         assertEquals(Status.PAID, pl.getStatus());
         assertNull(pl.getEarliestUnpaidYearmonth());
@@ -379,23 +390,98 @@ public class PaymentListTest {
         // Mutate original's Jan: mark paid and change amount
         Payment janInOriginal = original.getPaymentByMonth(YearMonth.of(2025, 1));
         janInOriginal.markPaid();
-        janInOriginal.setTotalAmount(777f);
+        janInOriginal.setTotalAmount(new TotalAmount(777f));
 
         // Clone should retain its original independent copy (unpaid, amount 10)
         Payment janInClone = cloned.getPaymentByMonth(YearMonth.of(2025, 1));
         assertFalse(janInClone.isPaid(), "clone must be independent of original mutations");
-        assertEquals(10f, janInClone.getTotalAmountFloat(), 1e-6);
+        assertEquals(1000, janInClone.getTotalAmountCents());
 
         // Mutate clone's Feb: change amount; original must remain unchanged
         Payment febInClone = cloned.getPaymentByMonth(YearMonth.of(2025, 2));
-        febInClone.setTotalAmount(999f);
+        febInClone.setTotalAmount(new TotalAmount(999f));
         febInClone.markPaid();
 
         Payment febInOriginal = original.getPaymentByMonth(YearMonth.of(2025, 2));
-        assertEquals(20f, febInOriginal.getTotalAmountFloat(), 1e-6);
+        assertEquals(2000, febInOriginal.getTotalAmountCents());
         assertTrue(febInOriginal.isPaid());
 
         assertEquals(Status.UNPAID, cloned.getStatus());
         assertEquals(YearMonth.of(2025, 1), cloned.getEarliestUnpaidYearmonth());
     }
+
+    // ---------- month-keyed storage ----------
+
+    @Test
+    public void addPayment_sameMonth_replacesExistingPayment() throws Exception {
+        PaymentList pl = new PaymentList(new ArrayList<>(List.of(jan25Paid(), feb25Unpaid())));
+        pl.addPayment(feb25Paid());
+
+        assertEquals(2, pl.size());
+        assertTrue(pl.getPaymentByMonth(YearMonth.of(2025, 2)).isPaid());
+        assertEquals(Status.PAID, pl.getStatus());
+        assertNull(pl.getEarliestUnpaidYearmonth());
+    }
+
+    @Test
+    public void constructor_duplicateMonths_keepsLastPayment() throws Exception {
+        PaymentList pl = new PaymentList(new ArrayList<>(List.of(feb25Unpaid(), feb25Paid())));
+        assertEquals(1, pl.size());
+        assertTrue(pl.getPaymentByMonth(YearMonth.of(2025, 2)).isPaid());
+    }
+
+    @Test
+    public void indexOfMonth_presentAndAbsentMonths() {
+        PaymentList pl = new PaymentList(sampleArrayList());
+        assertEquals(0, pl.indexOfMonth(YearMonth.of(2025, 1)));
+        assertEquals(2, pl.indexOfMonth(YearMonth.of(2025, 3)));
+        assertEquals(-1, pl.indexOfMonth(YearMonth.of(2024, 12)));
+    }
+
+    @Test
+    public void getPayments_modifyView_throwsUnsupportedOperationException() {
+        PaymentList pl = new PaymentList(sampleArrayList());
+        assertThrows(UnsupportedOperationException.class, () -> pl.getPayments().clear());
+    }
+
+    // ---------- running unpaid summary ----------
+
+    @Test
+    public void calculateUnpaidCents_followsUpsertsUpdatesAndPayment() throws Exception {
+        PaymentList pl = new PaymentList(new ArrayList<>(List.of(jan25Paid())));
+        assertEquals(0, pl.calculateUnpaidCents());
+
+        Payment feb = new PaymentBuilder().withYearMonth("2025-02")
+                .withTotalAmount(100f).withUnpaidAmount(100f).build();
+        pl.putPaymentForMonth(feb);
+        assertEquals(10000, pl.calculateUnpaidCents());
+        assertEquals(Status.UNPAID, pl.getStatus());
+
+        // raising the total raises the unpaid amount by the same difference
+        pl.updateExistingPayment(YearMonth.of(2025, 2), 15000);
+        assertEquals(15000, pl.calculateUnpaidCents());
+
+        Payment mar = new PaymentBuilder().withYearMonth("2025-03")
+                .withTotalAmount(50f).withUnpaidAmount(50f).build();
+        pl.addPaymentIfAbsent(mar);
+        assertEquals(20000, pl.calculateUnpaidCents());
+        assertEquals(Status.OVERDUE, pl.getStatus());
+        assertEquals(YearMonth.of(2025, 2), pl.getEarliestUnpaidYearmonth());
+
+        pl.markAllPaid();
+        assertEquals(0, pl.calculateUnpaidCents());
+        assertEquals(Status.PAID, pl.getStatus());
+        assertNull(pl.getEarliestUnpaidYearmonth());
+        assertEquals(0, pl.findUnpaids().size());
+    }
+
+    @Test
+    public void putPaymentForMonth_replaceUnpaidWithPaid_releasesUnpaidMonth() {
+        PaymentList pl = new PaymentList(sampleArrayList());
+        pl.putPaymentForMonth(feb25Paid());
+
+        assertEquals(Status.UNPAID, pl.getStatus());
+        assertEquals(YearMonth.of(2025, 3), pl.getEarliestUnpaidYearmonth());
+        assertEquals(mar25Unpaid().getUnpaidAmountCents(), pl.calculateUnpaidCents());
+    }
 }
@@ -59,10 +59,10 @@ public class PaymentTest {
     }
 
     @Test
-    public void getTotalAmountFloat_returnsCorrectFloat() {
+    public void getTotalAmountCents_returnsCorrectCents() {
         float value = 600f;
         Payment payment = new PaymentBuilder().withTotalAmount(value).build();
-        assertEquals(value, payment.getTotalAmountFloat());
+        assertEquals(60000L, payment.getTotalAmountCents());
     }
 
     @Test
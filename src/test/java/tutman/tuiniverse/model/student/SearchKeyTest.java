@@ -0,0 +1,54 @@
+package tutman.tuiniverse.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class SearchKeyTest {
+
+    private final SearchKey searchKey = new SearchKey(new Name("Alice Pauline"), new Email("Alice@example.com"),
+            new Phone("94351253"), new Address("123, Jurong  West Ave 6"));
+
+    @Test
+    public void constructor_splitsAndLowerCasesAllFields() {
+        assertEquals(List.of("alice", "pauline", "alice@example.com", "94351253", "123,", "jurong", "west", "ave", "6"),
+                searchKey.getWords());
+    }
+
+    @Test
+    public void normalize() {
+        assertEquals("alice", SearchKey.normalize("  aLIce "));
+    }
+
+    @Test
+    public void matches() {
+        // whole word
+        assertTrue(searchKey.matches("pauline"));
+
+        // part of a word, in any field
+        assertTrue(searchKey.matches("pau"));
+        assertTrue(searchKey.matches("example"));
+        assertTrue(searchKey.matches("4351"));
+        assertTrue(searchKey.matches("jur"));
+
+        // keywords are expected to be normalized already
+        assertFalse(searchKey.matches("Alice"));
+
+        // spans two words
+        assertFalse(searchKey.matches("alicepauline"));
+    }
+
+    @Test
+    public void equals() {
+        SearchKey sameDetails = new SearchKey(new Name("alice pauline"), new Email("alice@example.com"),
+                new Phone("94351253"), new Address("123, Jurong West Ave 6"));
+        assertTrue(searchKey.equals(sameDetails));
+        assertFalse(searchKey.equals(null));
+        assertFalse(searchKey.equals(new SearchKey(new Name("Bob"), new Email("alice@example.com"),
+                new Phone("94351253"), new Address("123, Jurong West Ave 6"))));
+    }
+}
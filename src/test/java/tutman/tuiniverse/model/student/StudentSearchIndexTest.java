@@ -0,0 +1,67 @@
+package tutman.tuiniverse.model.student;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tutman.tuiniverse.testutil.StudentBuilder;
+
+public class StudentSearchIndexTest {
+
+    private final Student alice = new StudentBuilder().withName("Alice Pauline").withPhone("94351253")
+            .withEmail("alice@example.com").withAddress("123, Jurong West Ave 6").build();
+    private final Student bob = new StudentBuilder().withName("Bob Choo").withPhone("98765432")
+            .withEmail("bob@example.com").withAddress("Block 123, Bobby Street 3").build();
+
+    private StudentSearchIndex index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new StudentSearchIndex();
+        index.setAll(Arrays.asList(alice, bob));
+    }
+
+    @Test
+    public void search_matchesSamePersonsAsPredicate() {
+        List<List<String>> queries = Arrays.asList(
+                List.of("alice"), List.of("ALI"), List.of("li"), List.of("a"), List.of("Choo", "Pauline"),
+                List.of("123,"), List.of("jurong"), List.of("9876"), List.of("example.com"), List.of("bobby"),
+                List.of("nobody"), List.of("xyz"));
+        for (List<String> keywords : queries) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            Set<Student> matches = index.search(keywords);
+            assertEquals(predicate.test(alice), matches.contains(alice), keywords.toString());
+            assertEquals(predicate.test(bob), matches.contains(bob), keywords.toString());
+        }
+    }
+
+    @Test
+    public void search_noOrBlankKeywords_returnsEmptySet() {
+        assertTrue(index.search(Collections.emptyList()).isEmpty());
+        assertTrue(index.search(List.of(" ")).isEmpty());
+    }
+
+    @Test
+    public void remove_removedStudent_notFound() {
+        index.remove(alice);
+        assertTrue(index.search(List.of("alice")).isEmpty());
+        assertEquals(Set.of(bob), index.search(List.of("bob")));
+    }
+
+    @Test
+    public void add_editedStudent_foundByNewDetails() {
+        Student editedAlice = new StudentBuilder(alice).withName("Alicia Tan").build();
+        index.remove(alice);
+        index.add(editedAlice);
+
+        assertTrue(index.search(List.of("pauline")).isEmpty());
+        assertEquals(Set.of(editedAlice), index.search(List.of("alicia")));
+    }
+}
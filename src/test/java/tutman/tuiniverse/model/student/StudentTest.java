@@ -17,6 +17,7 @@ import static tutman.tuiniverse.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND
 import static tutman.tuiniverse.testutil.Assert.assertThrows;
 import static tutman.tuiniverse.testutil.TypicalLessons.Y1_ENGLISH;
 import static tutman.tuiniverse.testutil.TypicalLessons.Y2_CHEMISTRY;
+import static tutman.tuiniverse.testutil.TypicalPayments.currentYmUnpaid0;
 import static tutman.tuiniverse.testutil.TypicalPayments.feb25Unpaid;
 import static tutman.tuiniverse.testutil.TypicalPersons.ALICE;
 import static tutman.tuiniverse.testutil.TypicalPersons.BENSON;
@@ -29,15 +30,18 @@ import static tutman.tuiniverse.testutil.TypicalPersons.GEORGE;
 import static tutman.tuiniverse.testutil.TypicalPersons.HANNAH;
 
 import java.time.YearMonth;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import tutman.tuiniverse.model.lesson.Lesson;
 import tutman.tuiniverse.model.lesson.LessonList;
 import tutman.tuiniverse.model.payment.Payment;
 import tutman.tuiniverse.model.payment.PaymentList;
 import tutman.tuiniverse.model.payment.Status;
 import tutman.tuiniverse.model.payment.exceptions.PaymentException;
 import tutman.tuiniverse.model.util.DateTimeUtil;
+import tutman.tuiniverse.testutil.LessonBuilder;
 import tutman.tuiniverse.testutil.StudentBuilder;
 
 public class StudentTest {
@@ -220,21 +224,21 @@ public class StudentTest {
         // setup a blank student with empty payments
         Student s = DANIEL;
 
-        PaymentList payments = s.getPayments();
         YearMonth ym = DateTimeUtil.currentYearMonth();
 
         // before adding any lesson
-        Payment before = payments.getPaymentByMonth(ym);
-        float beforeAmount = before.getTotalAmountFloat();
-        assertEquals(0f, beforeAmount, 1e-6);
+        Payment before = s.getPayments().getPaymentByMonth(ym);
+        long beforeAmount = before.getTotalAmountCents();
+        assertEquals(0, beforeAmount);
 
-        // adding lesson
-        // should fire listener -> refreshCurrentMonthPayment()
+        // adding lesson marks the payment for refresh
         s.getLessonList().addLesson(Y2_CHEMISTRY);
+        s.refreshPayments();
 
         // then payment total should have increased
+        PaymentList payments = s.getPayments();
         Payment after = payments.getPaymentByMonth(ym);
-        float afterAmount = after.getTotalAmountFloat();
+        long afterAmount = after.getTotalAmountCents();
 
         assertTrue(afterAmount > beforeAmount,
                 "Payment total should increase after adding lesson");
@@ -242,18 +246,53 @@ public class StudentTest {
         assertEquals(s.mapStatus(payments.getStatus()), s.getPaymentStatus());
 
         // removing lesson decreases total
-        float beforeRemove = payments
+        long beforeRemove = s.getPayments()
                 .getPaymentByMonth(ym)
-                .getTotalAmountFloat();
+                .getTotalAmountCents();
 
         s.getLessonList().deleteLesson(Y2_CHEMISTRY);
+        s.refreshPayments();
 
-        float afterRemove = s.getPayments()
+        long afterRemove = s.getPayments()
                 .getPaymentByMonth(ym)
-                .getTotalAmountFloat();
+                .getTotalAmountCents();
 
         assertTrue(afterRemove < beforeRemove,
                 "Payment total should decrease after deleting lesson");
     }
 
+    @Test
+    void refreshesPaymentTotal_severalLessonChanges_matchesLessonTotal() throws PaymentException {
+        YearMonth ym = DateTimeUtil.currentYearMonth();
+        Student s = new StudentBuilder().withPaymentList(new PaymentList(currentYmUnpaid0())).build();
+
+        s.getLessonList().addLesson(Y2_CHEMISTRY);
+        s.getLessonList().addLesson(Y1_ENGLISH);
+        s.getLessonList().deleteLesson(Y2_CHEMISTRY);
+        s.refreshPayments();
+
+        // the stored total did not match the lessons, so it is recomputed rather than adjusted
+        long lessonTotal = s.getLessonList().getTotalCentsEarned(ym);
+        assertEquals(lessonTotal, s.getPayments().getPaymentByMonth(ym).getTotalAmountCents());
+
+        s.getLessonList().deleteLesson(Y1_ENGLISH);
+        assertEquals(lessonTotal, s.getPayments().getPaymentByMonth(ym).getTotalAmountCents());
+        s.refreshPayments();
+        assertEquals(s.getLessonList().getTotalCentsEarned(ym),
+                s.getPayments().getPaymentByMonth(ym).getTotalAmountCents());
+    }
+
+    @Test
+    void adoptLessons_paymentsUnchanged() throws PaymentException {
+        YearMonth ym = DateTimeUtil.currentYearMonth();
+        Student s = new StudentBuilder().withPaymentList(new PaymentList(currentYmUnpaid0())).build();
+
+        Lesson lesson = new LessonBuilder().build();
+        s.adoptLessons(List.of(lesson));
+
+        assertTrue(s.hasLesson(lesson));
+        assertEquals(s, lesson.getStudent());
+        assertEquals(0, s.getPayments().getPaymentByMonth(ym).getTotalAmountCents());
+    }
+
 }
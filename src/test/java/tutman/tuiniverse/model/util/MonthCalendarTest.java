@@ -0,0 +1,57 @@
+package tutman.tuiniverse.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutman.tuiniverse.testutil.Assert.assertThrows;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+
+class MonthCalendarTest {
+
+    @Test
+    void countOccurrences_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> MonthCalendar.countOccurrences(null, DayOfWeek.MONDAY));
+        assertThrows(NullPointerException.class, () -> MonthCalendar.countOccurrences(YearMonth.of(2025, 1), null));
+    }
+
+    @Test
+    void countOccurrences_leapFebruary_onlyFirstWeekdayHasFive() {
+        YearMonth feb2024 = YearMonth.of(2024, 2); // 2024-02-01 is a Thursday
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            int expected = dayOfWeek == DayOfWeek.THURSDAY ? 5 : 4;
+            assertEquals(expected, MonthCalendar.countOccurrences(feb2024, dayOfWeek));
+        }
+    }
+
+    @Test
+    void countOccurrences_monthStartingOnSunday_wrapsAroundWeek() {
+        YearMonth june2025 = YearMonth.of(2025, 6); // 30 days; 2025-06-01 is a Sunday
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            boolean five = dayOfWeek == DayOfWeek.SUNDAY || dayOfWeek == DayOfWeek.MONDAY;
+            assertEquals(five ? 5 : 4, MonthCalendar.countOccurrences(june2025, dayOfWeek));
+        }
+    }
+
+    @Test
+    void countOccurrences_matchesDayByDayCount() {
+        for (YearMonth month = YearMonth.of(2020, 1); month.isBefore(YearMonth.of(2030, 1));
+                month = month.plusMonths(1)) {
+            for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+                assertEquals(countByIterating(month, dayOfWeek), MonthCalendar.countOccurrences(month, dayOfWeek));
+            }
+        }
+    }
+
+    private static int countByIterating(YearMonth month, DayOfWeek dayOfWeek) {
+        int count = 0;
+        for (LocalDate date = month.atDay(1); !date.isAfter(month.atEndOfMonth()); date = date.plusDays(1)) {
+            if (date.getDayOfWeek() == dayOfWeek) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,201 @@
+package tutman.tuiniverse.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutman.tuiniverse.testutil.Assert.assertThrows;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutman.tuiniverse.model.AddressBook;
+import tutman.tuiniverse.model.ModelManager;
+import tutman.tuiniverse.model.UserPrefs;
+import tutman.tuiniverse.model.lesson.LessonList;
+import tutman.tuiniverse.model.payment.Payment;
+import tutman.tuiniverse.model.payment.PaymentList;
+import tutman.tuiniverse.model.payment.TotalAmount;
+import tutman.tuiniverse.model.student.Student;
+import tutman.tuiniverse.testutil.LessonBuilder;
+import tutman.tuiniverse.testutil.StudentBuilder;
+
+public class MonthlyRolloverTest {
+
+    private static final YearMonth LAST_OPENED = YearMonth.of(2025, 10);
+
+    @Test
+    public void compute_clockMovedBackwards_throwsIllegalArgumentException() {
+        MonthlyRollover rollover = new MonthlyRollover(new ModelManager());
+        assertThrows(IllegalArgumentException.class, () ->
+                rollover.compute(LAST_OPENED, LAST_OPENED.minusMonths(1)));
+    }
+
+    @Test
+    public void compute_sameMonth_noUpdate() {
+        CountingModelManager model = modelWith(new StudentBuilder().build());
+        new MonthlyRollover(model).compute(LAST_OPENED, LAST_OPENED);
+        assertEquals(0, model.setPersonCalls);
+    }
+
+    @Test
+    public void compute_severalMonthsElapsed_addsEveryMonthWithOneUpdatePerStudent() throws Exception {
+        CountingModelManager model = modelWith(new StudentBuilder().build(),
+                new StudentBuilder().withName("Bob Lim").withPhone("91234567").withEmail("bob@example.com").build());
+
+        new MonthlyRollover(model).compute(LAST_OPENED, LAST_OPENED.plusMonths(3));
+
+        assertEquals(2, model.setPersonCalls);
+        for (Student student : model.getAddressBook().getPersonList()) {
+            PaymentList payments = student.getPayments();
+            for (int i = 1; i <= 3; i++) {
+                YearMonth month = LAST_OPENED.plusMonths(i);
+                assertEquals(student.getTotalAmountByMonth(month),
+                        payments.getPaymentByMonth(month).getTotalAmount());
+            }
+        }
+    }
+
+    @Test
+    public void compute_unpaidMonthWithStaleAmount_overwritesMonth() throws Exception {
+        YearMonth month = LAST_OPENED.plusMonths(1);
+        PaymentList payments = new PaymentList(new Payment(month, new TotalAmount(1f)));
+        Student student = new StudentBuilder().withPaymentList(payments).build();
+        CountingModelManager model = modelWith(student);
+
+        new MonthlyRollover(model).compute(LAST_OPENED, month);
+
+        assertEquals(1, model.setPersonCalls);
+        Student updated = model.getAddressBook().getPersonList().get(0);
+        assertEquals(student.getTotalAmountByMonth(month),
+                updated.getPayments().getPaymentByMonth(month).getTotalAmount());
+        // the original payments are left untouched
+        assertEquals(new TotalAmount(1f), payments.getPaymentByMonth(month).getTotalAmount());
+    }
+
+    @Test
+    public void compute_paidMonth_notOverwritten() throws Exception {
+        YearMonth month = LAST_OPENED.plusMonths(1);
+        PaymentList payments = new PaymentList(new Payment(month, new TotalAmount(1f)));
+        payments.markAllPaid();
+        CountingModelManager model = modelWith(new StudentBuilder().withPaymentList(payments).build());
+
+        new MonthlyRollover(model).compute(LAST_OPENED, month);
+
+        assertEquals(0, model.setPersonCalls);
+        Payment payment = model.getAddressBook().getPersonList().get(0).getPayments().getPaymentByMonth(month);
+        assertTrue(payment.isPaid());
+        assertFalse(payment.getTotalAmount().equals(
+                model.getAddressBook().getPersonList().get(0).getTotalAmountByMonth(month)));
+    }
+
+    @Test
+    public void compute_manyStudentsSeveralMonths_sameAsSequentialRolloverInOneBatch() throws Exception {
+        YearMonth now = LAST_OPENED.plusMonths(4);
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            StudentBuilder builder = new StudentBuilder()
+                    .withName("Student " + (char) ('A' + i))
+                    .withPhone(String.format("9%07d", i))
+                    .withEmail("student" + i + "@example.com")
+                    .withLessonList(new LessonList(List.of(new LessonBuilder()
+                            .withDay(String.valueOf(i % 7 + 1))
+                            .withLessonTime("10:00", String.format("%02d:00", 11 + i % 3))
+                            .build())));
+            PaymentList payments = new PaymentList(new Payment(LAST_OPENED.plusMonths(i % 4 + 1), new TotalAmount(1f)));
+            if (i % 3 == 0) {
+                payments.markAllPaid();
+            }
+            students.add(builder.withPaymentList(payments).build());
+        }
+        List<PaymentList> expected = new ArrayList<>();
+        for (Student student : students) {
+            expected.add(rolloverSequentially(student, LAST_OPENED, now));
+        }
+        CountingModelManager model = modelWith(students.toArray(new Student[0]));
+
+        new MonthlyRollover(model).compute(LAST_OPENED, now);
+
+        assertEquals(1, model.batches);
+        assertEquals(students.size(), model.setPersonCalls);
+        assertEquals(0, model.setPersonCallsOutsideBatch);
+        List<Student> updated = model.getAddressBook().getPersonList();
+        for (int i = 0; i < students.size(); i++) {
+            PaymentList actual = updated.get(i).getPayments();
+            assertEquals(new ArrayList<>(expected.get(i).getPayments()), new ArrayList<>(actual.getPayments()));
+            assertEquals(expected.get(i).getStatus(), actual.getStatus());
+            assertEquals(expected.get(i).calculateUnpaidCents(), actual.calculateUnpaidCents());
+        }
+    }
+
+    /**
+     * Returns a copy of the payments of {@code student} rolled over one month at a time, as a reference for the
+     * rolled over payments.
+     */
+    private static PaymentList rolloverSequentially(Student student, YearMonth lastOpened, YearMonth now)
+            throws Exception {
+        PaymentList payments = student.getPayments().copy();
+        for (YearMonth month = lastOpened.plusMonths(1); !month.isAfter(now); month = month.plusMonths(1)) {
+            TotalAmount amount = student.getTotalAmountByMonth(month);
+            if (amount.getCents() <= 0) {
+                continue;
+            }
+            if (!payments.containsMonth(month)) {
+                payments.addPaymentIfAbsent(new Payment(month, amount));
+                continue;
+            }
+            Payment existing = payments.getPaymentByMonth(month);
+            if (!existing.isPaid() && !existing.getTotalAmount().equals(amount)) {
+                payments.putPaymentForMonth(new Payment(month, amount));
+            }
+        }
+        return payments;
+    }
+
+    private static CountingModelManager modelWith(Student... students) {
+        AddressBook addressBook = new AddressBook();
+        for (Student student : students) {
+            addressBook.addPerson(student);
+        }
+        return new CountingModelManager(addressBook);
+    }
+
+    /**
+     * A ModelManager that counts how often students are replaced, and in how many batches.
+     */
+    private static class CountingModelManager extends ModelManager {
+        private int setPersonCalls;
+        private int setPersonCallsOutsideBatch;
+        private int batches;
+        private int batchDepth;
+
+        CountingModelManager(AddressBook addressBook) {
+            super(addressBook, new UserPrefs());
+        }
+
+        @Override
+        public void setPerson(Student target, Student editedPerson) {
+            setPersonCalls++;
+            if (batchDepth == 0) {
+                setPersonCallsOutsideBatch++;
+            }
+            super.setPerson(target, editedPerson);
+        }
+
+        @Override
+        public void beginBatch() {
+            if (batchDepth++ == 0) {
+                batches++;
+            }
+            super.beginBatch();
+        }
+
+        @Override
+        public void commitBatch() {
+            batchDepth--;
+            super.commitBatch();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package tutman.tuiniverse.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AddressBookSaverTest {
+
+    private final List<String> written = Collections.synchronizedList(new ArrayList<>());
+    private final List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private AddressBookSaver saver;
+
+    @BeforeEach
+    public void setUp() {
+        saver = new AddressBookSaver();
+        saver.setFailureHandler(failures::add);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        release.countDown();
+        saver.close();
+    }
+
+    @Test
+    public void submit_burstWhileWriting_coalescedIntoOneWrite() throws Exception {
+        saver.submit(new BlockingSave());
+        started.await();
+        saver.submit(new StubSave("a", false));
+        saver.submit(new StubSave("b", false));
+        saver.submit(new StubSave("c", false));
+        release.countDown();
+        saver.flush();
+
+        assertEquals(List.of("blocking", "a+b+c"), written);
+    }
+
+    @Test
+    public void submit_completeSaveInBurst_earlierSavesSkipped() throws Exception {
+        saver.submit(new BlockingSave());
+        saver.submit(new StubSave("a", false));
+        saver.submit(new StubSave("full", true));
+        saver.submit(new StubSave("b", false));
+        release.countDown();
+        saver.flush();
+
+        assertEquals(List.of("full", "b"), written.subList(written.size() - 2, written.size()));
+        assertEquals(List.of(), failures);
+    }
+
+    @Test
+    public void flush_writeFailed_failureReportedAndDependentSavesDropped() throws Exception {
+        IOException failure = new IOException("disk full");
+        saver.submit(new StubSave("failing", false) {
+            @Override
+            public void write() throws IOException {
+                throw failure;
+            }
+        });
+        IOException thrown = assertThrows(IOException.class, saver::flush);
+        assertSame(failure, thrown);
+        assertEquals(List.of(failure), failures);
+
+        saver.submit(new StubSave("dropped", false));
+        saver.submit(new StubSave("full", true));
+        saver.flush();
+        assertEquals(List.of("full"), written);
+    }
+
+    @Test
+    public void submit_afterClose_throwsIllegalStateException() throws Exception {
+        saver.close();
+        assertThrows(IllegalStateException.class, () -> saver.submit(new StubSave("late", false)));
+    }
+
+    /**
+     * A save that records its name when written, and merges with other incomplete saves.
+     */
+    private class StubSave implements AddressBookSave {
+        private final String name;
+        private final boolean isComplete;
+
+        StubSave(String name, boolean isComplete) {
+            this.name = name;
+            this.isComplete = isComplete;
+        }
+
+        @Override
+        public void write() throws IOException {
+            written.add(name);
+        }
+
+        @Override
+        public boolean isComplete() {
+            return isComplete;
+        }
+
+        @Override
+        public Optional<AddressBookSave> merge(AddressBookSave next) {
+            if (isComplete || next.isComplete() || getClass() != StubSave.class || next.getClass() != StubSave.class) {
+                return Optional.empty();
+            }
+            return Optional.of(new StubSave(name + "+" + ((StubSave) next).name, false));
+        }
+    }
+
+    /**
+     * A save that signals {@code started}, then waits for {@code release} before it is written.
+     */
+    private class BlockingSave extends StubSave {
+        BlockingSave() {
+            super("blocking", false);
+        }
+
+        @Override
+        public void write() throws IOException {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            super.write();
+        }
+    }
+}
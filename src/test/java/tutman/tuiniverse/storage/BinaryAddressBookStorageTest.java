@@ -0,0 +1,117 @@
+package tutman.tuiniverse.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutman.tuiniverse.testutil.Assert.assertThrows;
+import static tutman.tuiniverse.testutil.TypicalPersons.HOON;
+import static tutman.tuiniverse.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutman.tuiniverse.commons.exceptions.DataLoadingException;
+import tutman.tuiniverse.commons.util.FileUtil;
+import tutman.tuiniverse.model.AddressBook;
+import tutman.tuiniverse.model.AddressBookChanges;
+import tutman.tuiniverse.model.ReadOnlyAddressBook;
+import tutman.tuiniverse.model.lesson.LessonList;
+import tutman.tuiniverse.testutil.StudentBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path jsonFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempAddressBook" + BinaryAddressBookStorage.FILE_EXTENSION);
+        jsonFilePath = testFolder.resolve("TempAddressBook.json");
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(filePath, jsonFilePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+        assertTrue(Files.size(filePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_noSnapshotYet_importedFromJson() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, jsonFilePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // once a snapshot is written, the json file is no longer read
+        AddressBook changed = new AddressBook(original);
+        changed.addPerson(new StudentBuilder(HOON).withLessonList(new LessonList()).build());
+        storage.saveAddressBook(changed);
+        assertEquals(changed, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void prepareSave_writtenLater_savesAddressBookAsPrepared() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        AddressBook changing = new AddressBook(original);
+        AddressBookSave save = storage.prepareSave(changing, AddressBookChanges.RESET);
+        changing.addPerson(new StudentBuilder(HOON).withLessonList(new LessonList()).build());
+        save.write();
+
+        assertTrue(save.isComplete());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_damagedFile_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] snapshot = FileUtil.readBytesFromFile(filePath);
+        snapshot[snapshot.length / 2] ^= 1;
+        FileUtil.writeToFile(filePath, snapshot);
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        byte[] snapshot = BinaryAddressBookStorage.encode(getTypicalAddressBook());
+        ByteBuffer buffer = ByteBuffer.wrap(snapshot).putInt(Integer.BYTES, BinaryAddressBookStorage.VERSION + 1);
+        CRC32 crc = new CRC32();
+        crc.update(snapshot, 0, snapshot.length - Long.BYTES);
+        buffer.putLong(snapshot.length - Long.BYTES, crc.getValue());
+        FileUtil.writeToFile(filePath, snapshot);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFile_throwsDataLoadingException() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+}
@@ -0,0 +1,147 @@
+package tutman.tuiniverse.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutman.tuiniverse.testutil.TypicalPersons.BENSON;
+import static tutman.tuiniverse.testutil.TypicalPersons.HOON;
+import static tutman.tuiniverse.testutil.TypicalPersons.IDA;
+import static tutman.tuiniverse.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutman.tuiniverse.commons.util.FileUtil;
+import tutman.tuiniverse.model.AddressBook;
+import tutman.tuiniverse.model.Model;
+import tutman.tuiniverse.model.ModelManager;
+import tutman.tuiniverse.model.ReadOnlyAddressBook;
+import tutman.tuiniverse.model.UserPrefs;
+import tutman.tuiniverse.model.lesson.Lesson;
+import tutman.tuiniverse.model.lesson.LessonList;
+import tutman.tuiniverse.model.student.Student;
+import tutman.tuiniverse.testutil.LessonBuilder;
+import tutman.tuiniverse.testutil.StudentBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempAddressBook.json");
+        journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournaledAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBookChanges_changesAppendedToJournal_readBackWithChanges() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(model.getAddressBook());
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        Student hoon = new StudentBuilder(HOON).withLessonList(new LessonList()).build();
+        model.addPerson(hoon);
+        model.setPerson(BENSON, new StudentBuilder(BENSON).withName("Benson Changed").build());
+        storage.saveAddressBookChanges(model.getAddressBook(), model.takeAddressBookChanges());
+
+        Lesson lesson = new LessonBuilder().withDay("7").withLessonTime("06:00", "07:00").build();
+        model.addLesson(hoon, lesson);
+        storage.saveAddressBookChanges(model.getAddressBook(), model.takeAddressBookChanges());
+
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(new AddressBook(model.getAddressBook()), new AddressBook(readBack));
+        int hoonIndex = model.getAddressBook().getPersonList().size() - 1;
+        assertTrue(readBack.getPersonList().get(hoonIndex).hasLesson(lesson));
+
+        Student removed = model.getAddressBook().getPersonList().get(hoonIndex);
+        model.deletePerson(removed);
+        storage.saveAddressBookChanges(model.getAddressBook(), model.takeAddressBookChanges());
+        readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(new AddressBook(model.getAddressBook()), new AddressBook(readBack));
+    }
+
+    @Test
+    public void prepareSave_mergedAndWrittenLater_readBackAsPrepared() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(model.getAddressBook());
+
+        model.addPerson(new StudentBuilder(HOON).build());
+        AddressBookSave first = storage.prepareSave(model.getAddressBook(), model.takeAddressBookChanges());
+        model.setPerson(BENSON, new StudentBuilder(BENSON).withName("Benson Changed").build());
+        AddressBookSave second = storage.prepareSave(model.getAddressBook(), model.takeAddressBookChanges());
+        AddressBook prepared = new AddressBook(model.getAddressBook());
+
+        // changes made after the saves were prepared are not written
+        model.addPerson(new StudentBuilder(IDA).withLessonList(new LessonList()).build());
+        first.merge(second).get().write();
+
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(prepared, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBookChanges_thresholdReached_compacted() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, 1);
+        storage.saveAddressBook(model.getAddressBook());
+
+        model.addPerson(new StudentBuilder(HOON).build());
+        storage.saveAddressBookChanges(model.getAddressBook(), model.takeAddressBookChanges());
+        assertTrue(Files.exists(journalFilePath));
+
+        model.setPerson(BENSON, new StudentBuilder(BENSON).withName("Benson Changed").build());
+        storage.saveAddressBookChanges(model.getAddressBook(), model.takeAddressBookChanges());
+        assertFalse(Files.exists(journalFilePath));
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(new AddressBook(model.getAddressBook()), new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderSnapshot_journalIgnored() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(model.getAddressBook());
+        Student changedBenson = new StudentBuilder(BENSON).withName("Benson Changed").build();
+        model.setPerson(BENSON, changedBenson);
+        storage.saveAddressBookChanges(model.getAddressBook(), model.takeAddressBookChanges());
+        String staleJournal = FileUtil.readFromFile(journalFilePath);
+
+        // a newer snapshot written without its old journal being deleted
+        model.setPerson(changedBenson, new StudentBuilder(BENSON).withName("Benson Final").build());
+        storage.saveAddressBook(model.getAddressBook());
+        FileUtil.writeToFile(journalFilePath, staleJournal);
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(new AddressBook(model.getAddressBook()), new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_entrySkipped() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath);
+        storage.saveAddressBook(model.getAddressBook());
+        model.addPerson(new StudentBuilder(HOON).build());
+        storage.saveAddressBookChanges(model.getAddressBook(), model.takeAddressBookChanges());
+        FileUtil.appendToFile(journalFilePath, "{\"snapshot\":\"");
+
+        ReadOnlyAddressBook readBack = new JournaledAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(new AddressBook(model.getAddressBook()), new AddressBook(readBack));
+    }
+}
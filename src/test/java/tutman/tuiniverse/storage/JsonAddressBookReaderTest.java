@@ -0,0 +1,66 @@
+package tutman.tuiniverse.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutman.tuiniverse.testutil.Assert.assertThrows;
+import static tutman.tuiniverse.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParseException;
+
+import tutman.tuiniverse.commons.exceptions.IllegalValueException;
+import tutman.tuiniverse.commons.util.JsonUtil;
+import tutman.tuiniverse.model.AddressBook;
+import tutman.tuiniverse.model.student.Name;
+import tutman.tuiniverse.model.student.Student;
+
+public class JsonAddressBookReaderTest {
+
+    private static final String VALID_PERSON = "{\"name\":\"Alice Pauline\",\"phone\":94351253,"
+            + "\"email\":\"alice@example.com\",\"address\":\"123, Jurong West Ave 6\",\"tags\":[\"friends\"],"
+            + "\"nickname\":{\"ignored\":[1,2]}}";
+
+    @Test
+    public void readPersons_savedAddressBook_sameAsJsonSerializableAddressBook() throws Exception {
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(getTypicalAddressBook()));
+
+        AddressBook expected = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+        AddressBook actual = JsonSerializableAddressBook.toModelType(JsonAddressBookReader.readPersons(toStream(json)));
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void readPersons_unknownFieldsAndNumbers_readLikeJackson() throws Exception {
+        List<Student> persons = JsonAddressBookReader.readPersons(
+                toStream("{\"version\":[{}],\"persons\":[" + VALID_PERSON + "],\"lessons\":null}"));
+
+        assertEquals(1, persons.size());
+        assertEquals("94351253", persons.get(0).getPhone().value);
+        assertEquals(1, persons.get(0).getTags().size());
+    }
+
+    @Test
+    public void readPersons_invalidName_throwsIllegalValueException() {
+        String json = "{\"persons\":[" + VALID_PERSON.replace("Alice Pauline", "R@chel") + "]}";
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                JsonAddressBookReader.readPersons(toStream(json)));
+    }
+
+    @Test
+    public void readPersons_personNotObject_throwsJsonParseException() {
+        assertThrows(JsonParseException.class, () ->
+                JsonAddressBookReader.readPersons(toStream("{\"persons\":[\"Alice\"]}")));
+        assertThrows(JsonParseException.class, () ->
+                JsonAddressBookReader.readPersons(toStream("{\"persons\":[" + VALID_PERSON)));
+    }
+
+    private static InputStream toStream(String json) throws IOException {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -2,6 +2,7 @@ package tutman.tuiniverse.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutman.tuiniverse.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import tutman.tuiniverse.commons.core.Config;
 import tutman.tuiniverse.commons.core.GuiSettings;
 import tutman.tuiniverse.model.AddressBook;
 import tutman.tuiniverse.model.ReadOnlyAddressBook;
@@ -65,4 +67,28 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void createAddressBookStorage_formatChosenByExtensionAndConfig() {
+        Config config = new Config();
+        Path jsonFilePath = getTempFilePath("ab.json");
+        Path binaryFilePath = getTempFilePath("ab" + BinaryAddressBookStorage.FILE_EXTENSION);
+
+        AddressBookStorage storage = StorageManager.createAddressBookStorage(jsonFilePath, config);
+        assertTrue(storage instanceof JournaledAddressBookStorage);
+
+        storage = StorageManager.createAddressBookStorage(binaryFilePath, config);
+        assertTrue(storage instanceof BinaryAddressBookStorage);
+        assertEquals(binaryFilePath, storage.getAddressBookFilePath());
+
+        config.setAddressBookBinary(true);
+        storage = StorageManager.createAddressBookStorage(jsonFilePath, config);
+        assertTrue(storage instanceof BinaryAddressBookStorage);
+        assertEquals(binaryFilePath, storage.getAddressBookFilePath());
+
+        config.setAddressBookBinary(false);
+        config.setAddressBookJournaled(false);
+        storage = StorageManager.createAddressBookStorage(jsonFilePath, config);
+        assertEquals(JsonAddressBookStorage.class, storage.getClass());
+    }
+
 }
@@ -3,14 +3,17 @@ package tutman.tuiniverse.testutil.stubs;
 import java.nio.file.Path;
 import java.util.function.Predicate;
 
-import javafx.beans.value.ObservableFloatValue;
+import javafx.beans.value.ObservableLongValue;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.SortedList;
 import tutman.tuiniverse.commons.core.GuiSettings;
+import tutman.tuiniverse.model.AddressBookChanges;
 import tutman.tuiniverse.model.Model;
 import tutman.tuiniverse.model.ReadOnlyAddressBook;
 import tutman.tuiniverse.model.ReadOnlyUserPrefs;
+import tutman.tuiniverse.model.lesson.Day;
 import tutman.tuiniverse.model.lesson.Lesson;
+import tutman.tuiniverse.model.student.NameContainsKeywordsPredicate;
+import tutman.tuiniverse.model.student.PaymentStatus;
 import tutman.tuiniverse.model.student.Student;
 
 
@@ -78,6 +81,66 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void beginBatch() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitBatch() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void rollbackAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void undoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void redoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void clearAddressBookHistory() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public AddressBookChanges takeAddressBookChanges() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasUnsavedAddressBookChanges() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void markAddressBookSaved() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ObservableList<Student> getFilteredPersonList() {
         throw new AssertionError("This method should not be called.");
@@ -89,7 +152,7 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public SortedList<Lesson> getSortedFilteredLessons() {
+    public ObservableList<Lesson> getLessonsOn(Day day) {
         throw new AssertionError("This method should not be called.");
     }
 
@@ -104,7 +167,32 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public void updateFilteredPersonListByPaymentStatus(Predicate<Student> predicate) {
+    public void markAddressBookUnsaved() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setViewedStudent(Student student) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Lesson> getViewedLessonList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredPersonListByPaymentStatus(PaymentStatus paymentStatus) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public int countPersonsWithPaymentStatus(PaymentStatus paymentStatus) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredPersonListByKeywords(NameContainsKeywordsPredicate predicate) {
         throw new AssertionError("This method should not be called.");
     }
 
@@ -129,12 +217,12 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public ObservableFloatValue totalEarningsProperty() {
+    public ObservableLongValue totalEarningsProperty() {
         throw new AssertionError("This method should not be called");
     }
 
     @Override
-    public ObservableFloatValue totalUnpaidProperty() {
+    public ObservableLongValue totalUnpaidProperty() {
         throw new AssertionError("This method should not be called");
     }
 }
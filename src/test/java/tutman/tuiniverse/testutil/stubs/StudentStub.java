@@ -4,6 +4,7 @@ import java.time.YearMonth;
 import java.util.Collections;
 
 import tutman.tuiniverse.model.lesson.LessonList;
+import tutman.tuiniverse.model.payment.Money;
 import tutman.tuiniverse.model.payment.Payment;
 import tutman.tuiniverse.model.payment.PaymentList;
 import tutman.tuiniverse.model.student.Address;
@@ -60,7 +61,7 @@ public class StudentStub extends Student {
     }
 
     @Override
-    public float getTotalAmountFloat() {
-        return stubTotal;
+    public long getTotalAmountCents() {
+        return Money.toCents(stubTotal);
     }
 }